@@ -0,0 +1,48 @@
+package com.hangman.benchmark;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.WordEntry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a game from a plain word (compiles the entry) and from a
+ * precompiled catalog entry, plus rendering the masked word for a response.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameCreationBenchmark {
+    
+    @Param({"JAVA", "ENTWICKLER", "DONAUDAMPFSCHIFFFAHRTSGESELLSCHAFT"})
+    private String word;
+    
+    private WordEntry entry;
+    private Game game;
+    
+    @Setup
+    public void setUp() {
+        entry = WordEntry.compile(word);
+        game = new Game(entry);
+        game.guess(word.charAt(0));
+    }
+    
+    @Benchmark
+    public Game fromWord() {
+        return new Game(word);
+    }
+    
+    @Benchmark
+    public Game fromEntry() {
+        return new Game(entry);
+    }
+    
+    @Benchmark
+    public String maskedWord() {
+        return game.getMaskedWord();
+    }
+}
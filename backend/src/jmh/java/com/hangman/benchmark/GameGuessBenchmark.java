@@ -0,0 +1,76 @@
+package com.hangman.benchmark;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Game#guess(char)} for the hit, miss, repeat and umlaut cases.
+ * The game is reset to its initial state before every guess; the reset only writes
+ * a handful of fields and is the same for all cases.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameGuessBenchmark {
+    
+    @Param({"JAVA", "ENTWICKLER", "DONAUDAMPFSCHIFFFAHRTSGESELLSCHAFT"})
+    private String word;
+    
+    private Game game;
+    private Game repeatGame;
+    private Game umlautGame;
+    private long initialRevealed;
+    private int initialRemaining;
+    
+    @Setup
+    public void setUp() {
+        game = new Game(word);
+        initialRevealed = game.getRevealedMask();
+        initialRemaining = game.getRemainingLetters();
+        game.setMaxAttempts(Integer.MAX_VALUE);
+        
+        repeatGame = new Game(word);
+        repeatGame.guess(word.charAt(0));
+        
+        umlautGame = new Game("MÜNCHEN");
+    }
+    
+    @Benchmark
+    public GameGuessResult hit() {
+        reset(game);
+        return game.guess(word.charAt(0));
+    }
+    
+    @Benchmark
+    public GameGuessResult miss() {
+        reset(game);
+        return game.guess('Q');
+    }
+    
+    @Benchmark
+    public GameGuessResult repeat() {
+        return repeatGame.guess(word.charAt(0));
+    }
+    
+    @Benchmark
+    public GameGuessResult umlaut() {
+        umlautGame.setGuessedMask(0);
+        umlautGame.setRevealedMask(0);
+        umlautGame.setRemainingLetters(7);
+        return umlautGame.guess('U');
+    }
+    
+    private void reset(Game target) {
+        target.setGuessedMask(0);
+        target.setRevealedMask(initialRevealed);
+        target.setRemainingLetters(initialRemaining);
+        target.setFailedAttempts(0);
+        target.setStatus(Game.GameStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.hangman.benchmark;
+
+import com.hangman.HangmanServiceApplication;
+import com.hangman.domain.Alphabet;
+import com.hangman.domain.Game;
+import com.hangman.service.HangmanService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HangmanService} against the H2 repository in a non-web application context.
+ * Each thread plays its own game, starting a new one once the current game is over.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HangmanServiceBenchmark {
+    
+    @State(Scope.Benchmark)
+    public static class Context {
+        
+        @Param({"jpa", "none"})
+        private String backing;
+        
+        private ConfigurableApplicationContext applicationContext;
+        private HangmanService hangmanService;
+        
+        @Setup
+        public void start() {
+            applicationContext = new SpringApplicationBuilder(HangmanServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("hangman.store.backing=" + backing, "logging.level.com.hangman=WARN")
+                .run();
+            hangmanService = applicationContext.getBean(HangmanService.class);
+        }
+        
+        @TearDown
+        public void stop() {
+            applicationContext.close();
+        }
+    }
+    
+    @State(Scope.Thread)
+    public static class Player {
+        
+        private Game game;
+        private int nextLetter;
+        
+        String nextGuess(HangmanService hangmanService) {
+            if (game == null || game.isGameOver() || nextLetter == Alphabet.SIZE) {
+                game = hangmanService.startNewGame(Alphabet.SIZE);
+                nextLetter = 0;
+            }
+            return String.valueOf(Alphabet.letterAt(nextLetter++));
+        }
+    }
+    
+    @Benchmark
+    public Game guess(Context context, Player player) {
+        String letter = player.nextGuess(context.hangmanService);
+        return context.hangmanService.guess(player.game.getId(), letter);
+    }
+    
+    @Benchmark
+    public Game getGame(Context context, Player player) {
+        if (player.game == null) {
+            player.nextGuess(context.hangmanService);
+        }
+        return context.hangmanService.getGame(player.game.getId());
+    }
+    
+    @Benchmark
+    public Game startNewGame(Context context) {
+        return context.hangmanService.startNewGame(15);
+    }
+}
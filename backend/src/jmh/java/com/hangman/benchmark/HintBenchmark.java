@@ -0,0 +1,78 @@
+package com.hangman.benchmark;
+
+import com.hangman.domain.Game;
+import com.hangman.service.LetterHint;
+import com.hangman.service.WordProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a letter hint against a dictionary of random words with German letter frequencies,
+ * for a fresh game and for one with a few letters guessed. The index is built in the setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HintBenchmark {
+    
+    private static final String LETTERS = "EEEEENNNIIISSRRAATTDHULCGMOBWFKZPVJYXQÄÖÜ";
+    
+    @Param({"100000", "1000000"})
+    private int words;
+    
+    private Path file;
+    private WordProvider provider;
+    private Game fresh;
+    private Game guessed;
+    
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(1);
+        List<String> lines = new ArrayList<>(words);
+        for (int i = 0; i < words; i++) {
+            int length = 4 + random.nextInt(10);
+            StringBuilder word = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+            lines.add(word.toString());
+        }
+        file = Files.createTempFile("hint-benchmark", ".txt");
+        Files.write(file, lines, StandardCharsets.UTF_8);
+        provider = new WordProvider(file.toString());
+        
+        fresh = new Game(lines.get(0));
+        guessed = new Game(lines.get(0));
+        guessed.setMaxAttempts(100);
+        for (char letter : "ENIST".toCharArray()) {
+            guessed.guess(letter);
+        }
+        provider.hint(fresh);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+    
+    @Benchmark
+    public LetterHint freshGame() {
+        return provider.hint(fresh);
+    }
+    
+    @Benchmark
+    public LetterHint afterFiveGuesses() {
+        return provider.hint(guessed);
+    }
+}
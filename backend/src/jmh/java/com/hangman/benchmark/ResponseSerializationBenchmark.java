@@ -0,0 +1,59 @@
+package com.hangman.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.codec.CompactGameCodec;
+import com.hangman.codec.GameResponseCache;
+import com.hangman.codec.ResponseEncoding;
+import com.hangman.domain.Game;
+import com.hangman.dto.GameResponse;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.NoOpGamePersistence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GameResponse#fromGame(Game)} alone and together with Jackson or the compact encoding,
+ * and a read served from the {@link GameResponseCache}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GameResponseCache cache = new GameResponseCache(
+        new InMemoryGameStore(new NoOpGamePersistence()), objectMapper, 1 << 20, 1, new SimpleMeterRegistry());
+    private Game game;
+    
+    @Setup
+    public void setUp() {
+        game = new Game("ENTWICKLER");
+        game.guess('E');
+        game.guess('Z');
+    }
+    
+    @Benchmark
+    public GameResponse fromGame() {
+        return GameResponse.fromGame(game);
+    }
+    
+    @Benchmark
+    public byte[] fromGameToJson() throws Exception {
+        return objectMapper.writeValueAsBytes(GameResponse.fromGame(game));
+    }
+    
+    @Benchmark
+    public byte[] fromGameToCompact() {
+        return CompactGameCodec.encode(GameResponse.fromGame(game));
+    }
+    
+    @Benchmark
+    public byte[] cachedJson() {
+        return cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON);
+    }
+}
@@ -0,0 +1,257 @@
+package com.hangman.benchmark;
+
+import com.hangman.HangmanServiceApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load scenario comparing the servlet application with the reactive one (WebFlux, Netty, R2DBC).
+ * <p>
+ * Each mode starts in-process on a random port and is driven at rising concurrency levels: every level
+ * keeps that many requests in flight, each on its own connection, playing games (start, guess the
+ * alphabet in a fixed order, read state) for a fixed duration. Per level it prints throughput, latency
+ * percentiles, errors, and the heap and threads the JVM holds beyond idle, divided by the connections.
+ * The client runs in the same JVM and costs the same in both modes, so differences come from the server.
+ * The concurrency ceiling is the highest level without errors and with p99 below {@code --slo} milliseconds.
+ * The reactive mode needs the {@code reactive} profile; without it only the servlet mode is measured.
+ * <pre>
+ * mvn -Pbenchmark,reactive test-compile exec:exec \
+ *     -Dbenchmark.main=com.hangman.benchmark.ServerModeLoadScenario \
+ *     -Dbenchmark.args="--levels 64,512,2048,8192 --duration 20 --slo 500" \
+ *     -Dbenchmark.jvmArgs=-Xmx2g
+ * </pre>
+ */
+public class ServerModeLoadScenario {
+    
+    private static final String REACTIVE_APPLICATION = "com.hangman.reactive.ReactiveHangmanApplication";
+    private static final String GUESS_ORDER = "ENISRATDHULCGMOBWFKZPVJYXQ";
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+    private static final Pattern STATUS = Pattern.compile("\"status\":\"([A-Z]+)\"");
+    
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream(stringArg(args, "--levels", "64,256,1024,4096").split(","))
+            .mapToInt(level -> Integer.parseInt(level.trim()))
+            .toArray();
+        int warmupSeconds = intArg(args, "--warmup", 5);
+        int durationSeconds = intArg(args, "--duration", 15);
+        int sloMillis = intArg(args, "--slo", 500);
+        
+        List<String> report = new ArrayList<>();
+        for (String mode : List.of("servlet", "reactive")) {
+            SpringApplicationBuilder builder = application(mode);
+            if (builder == null) {
+                System.out.println("Reactive application not on the classpath, skipping reactive mode (build with -Preactive)");
+                continue;
+            }
+            ConfigurableApplicationContext context = builder
+                .properties(
+                    "server.port=0",
+                    "hangman.journal.enabled=false",
+                    "hangman.snapshot.enabled=false",
+                    "logging.level.com.hangman=WARN")
+                .run();
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String baseUrl = "http://localhost:" + port + "/api/games";
+                run(baseUrl, levels[0], warmupSeconds, false);
+                int ceiling = 0;
+                for (int level : levels) {
+                    Result result = run(baseUrl, level, durationSeconds, true);
+                    report.add(String.format("%-8s connections=%-5d requests=%d errors=%d throughput=%.0f req/s "
+                            + "p50=%.2f ms p99=%.2f ms heap/conn=%.1f KB threads=+%d",
+                        mode, level, result.requests, result.errors, result.requests / (double) durationSeconds,
+                        result.percentileMillis(0.50), result.percentileMillis(0.99),
+                        result.heapBytes / 1024.0 / level, result.threads));
+                    if (result.errors == 0 && result.percentileMillis(0.99) < sloMillis) {
+                        ceiling = level;
+                    }
+                }
+                report.add(String.format("%-8s ceiling=%d connections (no errors, p99 < %d ms)", mode, ceiling, sloMillis));
+            } finally {
+                context.close();
+            }
+        }
+        report.forEach(System.out::println);
+    }
+    
+    private static SpringApplicationBuilder application(String mode) {
+        if (mode.equals("servlet")) {
+            return new SpringApplicationBuilder(HangmanServiceApplication.class);
+        }
+        try {
+            return new SpringApplicationBuilder(Class.forName(REACTIVE_APPLICATION)).web(WebApplicationType.REACTIVE);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+    
+    private static Result run(String baseUrl, int connections, int seconds, boolean measureMemory) throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(4);
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(httpExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        long idleHeap = measureMemory ? usedHeapAfterGc() : 0;
+        int idleThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+        
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        List<Player> players = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            Player player = new Player(http, baseUrl, deadline);
+            players.add(player);
+            player.next();
+        }
+        
+        Result result = new Result();
+        if (measureMemory) {
+            // Halfway through every connection is open and busy
+            Thread.sleep(Duration.ofSeconds(seconds).toMillis() / 2);
+            result.heapBytes = Math.max(0, usedHeapAfterGc() - idleHeap);
+            result.threads = Math.max(0, ManagementFactory.getThreadMXBean().getThreadCount() - idleThreads);
+        }
+        players.forEach(player -> player.done.join());
+        result.addAll(players);
+        httpExecutor.shutdown();
+        return result;
+    }
+    
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+    
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+    }
+    
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * One request in flight at a time; the next one is sent from the completion of the previous
+     */
+    private static final class Player {
+        
+        private final HttpClient http;
+        private final String baseUrl;
+        private final long deadline;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private long[] latencies = new long[256];
+        private int count;
+        private int errors;
+        private String gameId;
+        private int guesses;
+        private boolean over;
+        
+        Player(HttpClient http, String baseUrl, long deadline) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+            this.deadline = deadline;
+        }
+        
+        void next() {
+            if (System.nanoTime() >= deadline) {
+                done.complete(null);
+                return;
+            }
+            HttpRequest.Builder request;
+            boolean read = false;
+            if (gameId == null) {
+                request = HttpRequest.newBuilder(URI.create(baseUrl))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"maxAttempts\":15}"));
+            } else if (!over && guesses < GUESS_ORDER.length()) {
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"id\":\"" + gameId + "\",\"letter\":\"" + GUESS_ORDER.charAt(guesses++) + "\"}"));
+            } else {
+                request = HttpRequest.newBuilder(URI.create(baseUrl + "/" + gameId)).GET();
+                read = true;
+            }
+            boolean finishesGame = read;
+            long start = System.nanoTime();
+            http.sendAsync(request.header("Content-Type", "application/json").timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    record(System.nanoTime() - start);
+                    if (error != null || response.statusCode() >= 400) {
+                        errors++;
+                        gameId = null; // Start over with a new game
+                    } else if (finishesGame) {
+                        gameId = null;
+                    } else if (gameId == null) {
+                        Matcher id = ID.matcher(response.body());
+                        if (id.find()) {
+                            gameId = id.group(1);
+                            guesses = 0;
+                            over = false;
+                        }
+                    } else {
+                        Matcher status = STATUS.matcher(response.body());
+                        over = status.find() && !status.group(1).equals("ACTIVE");
+                    }
+                    next();
+                });
+        }
+        
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+    
+    private static final class Result {
+        
+        private long[] latencies = new long[0];
+        private long requests;
+        private long errors;
+        private long heapBytes;
+        private int threads;
+        
+        void addAll(List<Player> players) {
+            latencies = new long[players.stream().mapToInt(player -> player.count).sum()];
+            int offset = 0;
+            for (Player player : players) {
+                System.arraycopy(player.latencies, 0, latencies, offset, player.count);
+                offset += player.count;
+                requests += player.count;
+                errors += player.errors;
+            }
+        }
+        
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
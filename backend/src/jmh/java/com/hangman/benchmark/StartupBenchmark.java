@@ -0,0 +1,152 @@
+package com.hangman.benchmark;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Startup benchmark of the jar built by the {@code faststart} profile.
+ * <p>
+ * Every run starts a fresh JVM in an empty working directory on a free port and measures the time from
+ * launching the process to the first successful {@code POST /api/games}, so class loading, context refresh
+ * and the first request all count. Modes, each adding to the previous one:
+ * <ul>
+ *     <li>{@code baseline}: the application as configured by default</li>
+ *     <li>{@code lazy}: the lazy initialisation the AOT build bakes in, creating beans off the request path on first use</li>
+ *     <li>{@code aot}: the bean definitions generated at build time instead of scanning and reflection</li>
+ *     <li>{@code aot+cds}: the class-data-sharing archive from the build's training run</li>
+ * </ul>
+ * Min, median and max per mode are printed after all runs.
+ * <pre>
+ * mvn -Pfaststart package -DskipTests
+ * mvn -Pbenchmark test-compile exec:exec \
+ *     -Dbenchmark.main=com.hangman.benchmark.StartupBenchmark \
+ *     -Dbenchmark.args="--runs 10"
+ * </pre>
+ */
+public class StartupBenchmark {
+    
+    private static final List<String> MODES = List.of("baseline", "lazy", "aot", "aot+cds");
+    
+    public static void main(String[] args) throws Exception {
+        int runs = intArg(args, "--runs", 5);
+        int timeoutSeconds = intArg(args, "--timeout", 120);
+        Path jar = Path.of(stringArg(args, "--jar", "target/hangman-service-1.0.0.jar")).toAbsolutePath();
+        Path archive = Path.of(stringArg(args, "--archive", "target/app.jsa")).toAbsolutePath();
+        if (!Files.exists(jar) || !Files.isDirectory(jar.resolveSibling("lib"))) {
+            System.out.println("No thin jar at " + jar + ", build it first with mvn -Pfaststart package");
+            return;
+        }
+        
+        HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        List<String> report = new ArrayList<>();
+        for (String mode : MODES) {
+            if (mode.equals("aot+cds") && !Files.exists(archive)) {
+                System.out.println("No archive at " + archive + ", skipping aot+cds mode");
+                continue;
+            }
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToFirstGame(http, command(mode, jar, archive), timeoutSeconds);
+                System.out.printf("%-8s run %d: %d ms%n", mode, run + 1, millis[run]);
+            }
+            Arrays.sort(millis);
+            report.add(String.format("%-8s runs=%d min=%d ms median=%d ms max=%d ms",
+                mode, runs, millis[0], millis[runs / 2], millis[runs - 1]));
+        }
+        report.forEach(System.out::println);
+    }
+    
+    private static List<String> command(String mode, Path jar, Path archive) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (mode.equals("aot+cds")) {
+            command.add("-XX:SharedArchiveFile=" + archive);
+        }
+        if (mode.startsWith("aot")) {
+            // The AOT build has lazy initialisation baked in
+            command.add("-Dspring.aot.enabled=true");
+        }
+        command.add("-jar");
+        command.add(jar.toString());
+        if (mode.equals("lazy")) {
+            command.add("--spring.main.lazy-initialization=true");
+            command.add("--spring.data.jpa.repositories.bootstrap-mode=deferred");
+        }
+        return command;
+    }
+    
+    /**
+     * @return milliseconds from launching the JVM until {@code POST /api/games} first succeeds
+     */
+    private static long timeToFirstGame(HttpClient http, List<String> command, int timeoutSeconds) throws Exception {
+        int port = freePort();
+        List<String> withPort = new ArrayList<>(command);
+        withPort.add("--server.port=" + port);
+        withPort.add("--logging.level.root=WARN");
+        Path workingDirectory = Files.createTempDirectory("hangman-startup");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/games"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{}"))
+            .timeout(Duration.ofSeconds(timeoutSeconds)) // The first request may still be creating beans
+            .build();
+        
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(withPort)
+            .directory(workingDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(workingDirectory.resolve("output.log").toFile())
+            .start();
+        try {
+            long deadline = start + Duration.ofSeconds(timeoutSeconds).toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue()
+                        + ", see " + workingDirectory.resolve("output.log"));
+                }
+                try {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (ConnectException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("No game created within " + timeoutSeconds + " s");
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+    
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+    
+    private static int intArg(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+    }
+    
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
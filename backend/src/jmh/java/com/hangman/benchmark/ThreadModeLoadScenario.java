@@ -0,0 +1,193 @@
+package com.hangman.benchmark;
+
+import com.hangman.HangmanServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load scenario comparing request execution on platform threads with virtual threads.
+ * <p>
+ * Each mode starts the application in-process on a random port, then a fixed number of
+ * clients play games (start, guess the alphabet in a fixed order, read state) for a fixed
+ * duration after a warmup. Throughput and latency percentiles are printed per mode.
+ * Virtual threads need Java 21; on older runtimes only the platform mode is measured.
+ * <pre>
+ * mvn -Pbenchmark,java21 test-compile exec:exec \
+ *     -Dbenchmark.main=com.hangman.benchmark.ThreadModeLoadScenario \
+ *     -Dbenchmark.args="--clients 400 --warmup 10 --duration 30" \
+ *     -Dbenchmark.jvmArgs=-Djdk.tracePinnedThreads=short
+ * </pre>
+ */
+public class ThreadModeLoadScenario {
+    
+    private static final String GUESS_ORDER = "ENISRATDHULCGMOBWFKZPVJYXQ";
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+    private static final Pattern STATUS = Pattern.compile("\"status\":\"([A-Z]+)\"");
+    
+    public static void main(String[] args) throws Exception {
+        int clients = intArg(args, "--clients", 200);
+        int warmupSeconds = intArg(args, "--warmup", 5);
+        int durationSeconds = intArg(args, "--duration", 20);
+        
+        List<String> modes = new ArrayList<>(List.of("platform"));
+        if (Runtime.version().feature() >= 21) {
+            modes.add("virtual");
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + " detected, skipping virtual thread mode (needs 21)");
+        }
+        
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(HangmanServiceApplication.class)
+                .properties(
+                    "server.port=0",
+                    "spring.threads.virtual.enabled=" + mode.equals("virtual"),
+                    "logging.level.com.hangman=WARN")
+                .run();
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                String baseUrl = "http://localhost:" + port + "/api/games";
+                run(baseUrl, clients, warmupSeconds);
+                Result result = run(baseUrl, clients, durationSeconds);
+                report.add(String.format("%-9s clients=%d requests=%d errors=%d throughput=%.0f req/s p50=%.2f ms p99=%.2f ms p999=%.2f ms",
+                    mode, clients, result.requests, result.errors, result.requests / (double) durationSeconds,
+                    result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(0.999)));
+            } finally {
+                context.close();
+            }
+        }
+        report.forEach(System.out::println);
+    }
+    
+    private static Result run(String baseUrl, int clients, int seconds) throws Exception {
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(4);
+        HttpClient http = HttpClient.newBuilder()
+            .executor(httpExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<Client>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            futures.add(executor.submit(() -> new Client(http, baseUrl).playUntil(deadline)));
+        }
+        Result result = new Result();
+        for (Future<Client> future : futures) {
+            result.add(future.get());
+        }
+        executor.shutdown();
+        httpExecutor.shutdown();
+        return result;
+    }
+    
+    private static int intArg(String[] args, String name, int defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return Integer.parseInt(args[i + 1]);
+            }
+        }
+        return defaultValue;
+    }
+    
+    private static final class Client {
+        
+        private final HttpClient http;
+        private final String baseUrl;
+        private long[] latencies = new long[1024];
+        private int count;
+        private int errors;
+        
+        Client(HttpClient http, String baseUrl) {
+            this.http = http;
+            this.baseUrl = baseUrl;
+        }
+        
+        Client playUntil(long deadline) {
+            while (System.nanoTime() < deadline) {
+                String body = send(HttpRequest.newBuilder(URI.create(baseUrl))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"maxAttempts\":15}")));
+                Matcher id = body == null ? null : ID.matcher(body);
+                if (id == null || !id.find()) {
+                    continue;
+                }
+                String gameId = id.group(1);
+                for (int i = 0; i < GUESS_ORDER.length() && System.nanoTime() < deadline; i++) {
+                    String guess = send(HttpRequest.newBuilder(URI.create(baseUrl + "/guess"))
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"id\":\"" + gameId + "\",\"letter\":\"" + GUESS_ORDER.charAt(i) + "\"}")));
+                    Matcher status = guess == null ? null : STATUS.matcher(guess);
+                    if (status != null && status.find() && !status.group(1).equals("ACTIVE")) {
+                        break;
+                    }
+                }
+                send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + gameId)).GET());
+            }
+            return this;
+        }
+        
+        private String send(HttpRequest.Builder request) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = http.send(
+                    request.header("Content-Type", "application/json").build(),
+                    HttpResponse.BodyHandlers.ofString());
+                record(System.nanoTime() - start);
+                if (response.statusCode() >= 400) {
+                    errors++;
+                    return null;
+                }
+                return response.body();
+            } catch (Exception e) {
+                errors++;
+                return null;
+            }
+        }
+        
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+    
+    private static final class Result {
+        
+        private long[] latencies = new long[0];
+        private long requests;
+        private long errors;
+        
+        void add(Client client) {
+            int offset = latencies.length;
+            latencies = Arrays.copyOf(latencies, offset + client.count);
+            System.arraycopy(client.latencies, 0, latencies, offset, client.count);
+            requests += client.count;
+            errors += client.errors;
+        }
+        
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.hangman.loadgen;
+
+import com.hangman.HangmanServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Capacity test with thousands of concurrent simulated players against the REST API.
+ * <p>
+ * Without {@code --target} the application is started in-process on a random port, with journal and
+ * snapshot in a temporary directory; with it, an already running instance is tested. Players start spread
+ * over the ramp-up, and what they record during ramp-up and warmup is dropped. Every report interval the
+ * throughput, latencies and failures of that interval are printed, and at the end the totals per operation:
+ * throughput, HdrHistogram percentiles, and the share of errors and of {@code 404 Not Found} responses,
+ * which mean lost games rather than a failing server.
+ * <pre>
+ * mvn -Ploadgen test-compile exec:exec -Dloadgen.args="--players 5000 --duration 120"
+ * mvn -Ploadgen test-compile exec:exec -Dloadgen.args="--target http://localhost:8080 --players 2000"
+ * </pre>
+ */
+public class LoadGenerator {
+    
+    private final Options options;
+    
+    public LoadGenerator(Options options) {
+        this.options = options;
+    }
+    
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        String target = stringArg(args, "--target", null);
+        if (target != null) {
+            new LoadGenerator(options).run(URI.create(target));
+            return;
+        }
+        Path data = Files.createTempDirectory("hangman-loadgen");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HangmanServiceApplication.class)
+            .properties(
+                "server.port=0",
+                "hangman.journal.directory=" + data.resolve("journal"),
+                "hangman.snapshot.file=" + data.resolve("snapshot/games.bin"),
+                "logging.level.com.hangman=WARN")
+            .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            new LoadGenerator(options).run(URI.create("http://localhost:" + port));
+        } finally {
+            context.close();
+        }
+    }
+    
+    /**
+     * Runs the players against the instance at the base URL until the end of the measurement
+     * @return the statistics of the measurement, without ramp-up and warmup
+     */
+    public LoadStatistics run(URI baseUrl) throws InterruptedException {
+        System.out.printf("%d players against %s: ramp-up %d s, warmup %d s, measurement %d s%n", options.players(),
+            baseUrl, options.rampUp().toSeconds(), options.warmup().toSeconds(), options.duration().toSeconds());
+        LoadStatistics statistics = new LoadStatistics();
+        ExecutorService httpExecutor = Executors.newFixedThreadPool(options.threads());
+        ScheduledExecutorService timer = Executors.newScheduledThreadPool(1);
+        HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(httpExecutor)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        try {
+            long start = System.nanoTime();
+            long measurementStart = start + options.rampUp().plus(options.warmup()).toNanos();
+            long deadline = measurementStart + options.duration().toNanos();
+            List<CompletableFuture<Void>> players = new ArrayList<>(options.players());
+            for (int i = 0; i < options.players(); i++) {
+                long delayMillis = options.rampUp().toMillis() * i / options.players();
+                players.add(new SimulatedPlayer(http, timer, statistics, options, baseUrl, deadline).start(delayMillis));
+            }
+            
+            sleepUntil(measurementStart);
+            statistics.reset();
+            long intervalStart = measurementStart;
+            while (intervalStart < deadline) {
+                long intervalEnd = Math.min(deadline, intervalStart + options.reportInterval().toNanos());
+                sleepUntil(intervalEnd);
+                double seconds = (intervalEnd - intervalStart) / 1e9;
+                System.out.printf("%5d s%n%s", TimeUnit.NANOSECONDS.toSeconds(intervalEnd - measurementStart),
+                    statistics.rollInterval(seconds));
+                intervalStart = intervalEnd;
+            }
+            
+            // Requests in flight at the deadline still complete; they are left out of the totals
+            CompletableFuture.allOf(players.toArray(CompletableFuture[]::new))
+                .orTimeout(options.requestTimeout().toMillis() + options.thinkMax().toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(timeout -> null)
+                .join();
+            System.out.print(statistics.report(options.duration().toMillis() / 1000.0));
+            return statistics;
+        } finally {
+            timer.shutdownNow();
+            httpExecutor.shutdownNow();
+        }
+    }
+    
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+    
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * @param players number of concurrent players
+     * @param rampUp time over which the players start
+     * @param warmup time after the ramp-up that is not measured
+     * @param duration time measured
+     * @param thinkMin shortest pause of a player before a request
+     * @param thinkMax longest pause of a player before a request
+     * @param pollEvery guesses between two reads of the game state
+     * @param maxAttempts failed attempts allowed per game
+     * @param requestTimeout time after which a request counts as an error
+     * @param reportInterval time between two interval reports
+     * @param threads threads completing the requests of all players
+     */
+    public record Options(int players, Duration rampUp, Duration warmup, Duration duration, Duration thinkMin,
+                          Duration thinkMax, int pollEvery, int maxAttempts, Duration requestTimeout,
+                          Duration reportInterval, int threads) {
+        
+        public Options {
+            if (players < 1 || pollEvery < 1 || maxAttempts < 1 || threads < 1) {
+                throw new IllegalArgumentException("Players, poll interval, attempts and threads must be at least 1");
+            }
+            if (thinkMin.isNegative() || thinkMax.compareTo(thinkMin) < 0) {
+                throw new IllegalArgumentException("Think time must satisfy 0 <= min <= max");
+            }
+        }
+        
+        /**
+         * Reads the options from command line arguments such as {@code --players 2000}; durations are in
+         * seconds, think times in milliseconds
+         */
+        public static Options parse(String[] args) {
+            return new Options(
+                intArg(args, "--players", 1000),
+                Duration.ofSeconds(intArg(args, "--ramp-up", 10)),
+                Duration.ofSeconds(intArg(args, "--warmup", 10)),
+                Duration.ofSeconds(intArg(args, "--duration", 60)),
+                Duration.ofMillis(intArg(args, "--think-min", 500)),
+                Duration.ofMillis(intArg(args, "--think-max", 3000)),
+                intArg(args, "--poll-every", 3),
+                intArg(args, "--max-attempts", 15),
+                Duration.ofSeconds(intArg(args, "--timeout", 10)),
+                Duration.ofSeconds(intArg(args, "--report-every", 10)),
+                intArg(args, "--threads", Math.max(2, Runtime.getRuntime().availableProcessors())));
+        }
+        
+        private static int intArg(String[] args, String name, int defaultValue) {
+            return Integer.parseInt(stringArg(args, name, String.valueOf(defaultValue)));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.hangman.loadgen;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies and outcomes of the requests of all simulated players, per operation.
+ * <p>
+ * Players record into a {@link Recorder} each, which is wait-free for writers; the reporter swaps out
+ * the interval histogram and adds it to the running total, so reading never blocks the players.
+ */
+public class LoadStatistics {
+    
+    /** Latencies are tracked up to a minute with three significant digits */
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    
+    public enum Operation {
+        CREATE, GUESS, POLL
+    }
+    
+    private final Map<Operation, Counters> counters = new EnumMap<>(Operation.class);
+    
+    public LoadStatistics() {
+        for (Operation operation : Operation.values()) {
+            counters.put(operation, new Counters());
+        }
+    }
+    
+    /**
+     * Records a completed request
+     * @param status the HTTP status, or 0 if the request failed without a response
+     */
+    void record(Operation operation, long nanos, int status) {
+        Counters counter = counters.get(operation);
+        counter.recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, nanos / 1_000)));
+        counter.intervalRequests.increment();
+        if (status == 404) {
+            counter.intervalNotFound.increment();
+        } else if (status < 200 || status >= 300) {
+            counter.intervalErrors.increment();
+        }
+    }
+    
+    /**
+     * Moves everything recorded since the last call into the totals
+     * @return one line per operation for the interval, or an empty string if nothing was recorded
+     */
+    synchronized String rollInterval(double seconds) {
+        StringBuilder report = new StringBuilder();
+        for (Operation operation : Operation.values()) {
+            Counters counter = counters.get(operation);
+            Histogram interval = counter.roll();
+            if (interval.getTotalCount() > 0) {
+                report.append(String.format("  %-6s %8.0f req/s  p50=%7.2f ms  p99=%8.2f ms  errors=%d  404=%d%n",
+                    operation.name().toLowerCase(), interval.getTotalCount() / seconds,
+                    millis(interval.getValueAtPercentile(50)), millis(interval.getValueAtPercentile(99)),
+                    counter.lastErrors, counter.lastNotFound));
+            }
+        }
+        return report.toString();
+    }
+    
+    /**
+     * Drops everything recorded so far, e.g. at the end of the warmup
+     */
+    synchronized void reset() {
+        for (Counters counter : counters.values()) {
+            counter.roll();
+            counter.total.reset();
+            counter.requests = 0;
+            counter.errors = 0;
+            counter.notFound = 0;
+        }
+    }
+    
+    /**
+     * @return the totals since the last reset, for requests completed up to the last interval
+     */
+    public synchronized Summary summary(Operation operation) {
+        Counters counter = counters.get(operation);
+        return new Summary(counter.requests, counter.errors, counter.notFound, counter.total.copy());
+    }
+    
+    /**
+     * Formats the totals of every operation as a table
+     */
+    String report(double seconds) {
+        StringBuilder report = new StringBuilder(String.format(
+            "%-8s %10s %10s %9s %9s %9s %9s %9s %8s %8s%n",
+            "op", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "404"));
+        long requests = 0;
+        for (Operation operation : Operation.values()) {
+            Summary summary = summary(operation);
+            requests += summary.requests();
+            Histogram latencies = summary.latencies();
+            report.append(String.format("%-8s %10d %10.0f %9.2f %9.2f %9.2f %9.2f %9.2f %7.2f%% %7.2f%%%n",
+                operation.name().toLowerCase(), summary.requests(), summary.requests() / seconds,
+                millis(latencies.getValueAtPercentile(50)), millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)), millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()), summary.errorRate() * 100, summary.notFoundRate() * 100));
+        }
+        report.append(String.format("%-8s %10d %10.0f%n", "total", requests, requests / seconds));
+        return report.toString();
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+    
+    /**
+     * Totals of one operation
+     * @param latencies request latencies in microseconds
+     */
+    public record Summary(long requests, long errors, long notFound, Histogram latencies) {
+        
+        public double errorRate() {
+            return requests == 0 ? 0 : errors / (double) requests;
+        }
+        
+        public double notFoundRate() {
+            return requests == 0 ? 0 : notFound / (double) requests;
+        }
+    }
+    
+    private static final class Counters {
+        
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder intervalRequests = new LongAdder();
+        private final LongAdder intervalErrors = new LongAdder();
+        private final LongAdder intervalNotFound = new LongAdder();
+        private Histogram interval;
+        private long requests;
+        private long errors;
+        private long notFound;
+        private long lastErrors;
+        private long lastNotFound;
+        
+        /**
+         * @return the histogram of the interval just ended, already added to the total
+         */
+        Histogram roll() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            requests += intervalRequests.sumThenReset();
+            lastErrors = intervalErrors.sumThenReset();
+            lastNotFound = intervalNotFound.sumThenReset();
+            errors += lastErrors;
+            notFound += lastNotFound;
+            return interval;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.hangman.loadgen;
+
+import com.hangman.loadgen.LoadStatistics.Operation;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One player: starts a game, guesses letters with a think time before each, reads the game state every few
+ * guesses, and starts the next game when one is over.
+ * <p>
+ * A player holds no thread. Think times are scheduled on a shared timer and requests are sent asynchronously,
+ * so thousands of players run on a handful of threads, each with at most one request in flight.
+ */
+final class SimulatedPlayer {
+    
+    /** Letters by frequency in German, the dictionary language */
+    private static final String LETTER_FREQUENCY = "ENISRATDHULCGMOBWFKZPVJYXQ";
+    private static final Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+    private static final Pattern STATUS = Pattern.compile("\"status\":\"([A-Z]+)\"");
+    
+    private final HttpClient http;
+    private final ScheduledExecutorService timer;
+    private final LoadStatistics statistics;
+    private final LoadGenerator.Options options;
+    private final URI games;
+    private final URI guesses;
+    private final long deadline;
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private String gameId;
+    private char[] letters;
+    private int guessed;
+    
+    SimulatedPlayer(HttpClient http, ScheduledExecutorService timer, LoadStatistics statistics,
+                    LoadGenerator.Options options, URI baseUrl, long deadline) {
+        this.http = http;
+        this.timer = timer;
+        this.statistics = statistics;
+        this.options = options;
+        this.games = baseUrl.resolve("/api/games");
+        this.guesses = baseUrl.resolve("/api/games/guess");
+        this.deadline = deadline;
+    }
+    
+    /**
+     * Starts playing after the delay
+     * @return completes once the player has stopped at the deadline
+     */
+    CompletableFuture<Void> start(long delayMillis) {
+        timer.schedule(this::createGame, delayMillis, TimeUnit.MILLISECONDS);
+        return done;
+    }
+    
+    private void createGame() {
+        send(Operation.CREATE, HttpRequest.newBuilder(games)
+            .POST(HttpRequest.BodyPublishers.ofString("{\"maxAttempts\":" + options.maxAttempts() + "}")), body -> {
+                Matcher id = ID.matcher(body);
+                if (!id.find()) {
+                    return false;
+                }
+                gameId = id.group(1);
+                letters = guessOrder();
+                guessed = 0;
+                think(this::guess);
+                return true;
+            });
+    }
+    
+    private void guess() {
+        if (guessed == letters.length) {
+            createGame(); // Only letters outside A-Z left, e.g. umlauts
+            return;
+        }
+        char letter = letters[guessed++];
+        send(Operation.GUESS, HttpRequest.newBuilder(guesses)
+            .POST(HttpRequest.BodyPublishers.ofString("{\"id\":\"" + gameId + "\",\"letter\":\"" + letter + "\"}")), body -> {
+                Matcher status = STATUS.matcher(body);
+                if (!status.find()) {
+                    return false;
+                }
+                if (!status.group(1).equals("ACTIVE")) {
+                    think(this::createGame);
+                } else if (guessed % options.pollEvery() == 0) {
+                    think(this::poll);
+                } else {
+                    think(this::guess);
+                }
+                return true;
+            });
+    }
+    
+    private void poll() {
+        send(Operation.POLL, HttpRequest.newBuilder(games.resolve("/api/games/" + gameId)).GET(), body -> {
+            think(this::guess);
+            return true;
+        });
+    }
+    
+    /**
+     * Sends the request and records it; on success the handler decides the next step, on failure the player
+     * starts over with a new game
+     * @param onSuccess handles the body of a 2xx response, false if it was not what the API promises
+     */
+    private void send(Operation operation, HttpRequest.Builder request, SuccessHandler onSuccess) {
+        if (System.nanoTime() >= deadline) {
+            done.complete(null);
+            return;
+        }
+        long start = System.nanoTime();
+        http.sendAsync(request.header("Content-Type", "application/json").timeout(options.requestTimeout()).build(),
+                HttpResponse.BodyHandlers.ofString())
+            .whenComplete((response, error) -> {
+                long nanos = System.nanoTime() - start;
+                int status = error == null ? response.statusCode() : 0;
+                if (status / 100 == 2 && !onSuccess.handle(response.body())) {
+                    status = 0; // Malformed response counts as an error
+                }
+                statistics.record(operation, nanos, status);
+                if (status / 100 != 2) {
+                    think(this::createGame);
+                }
+            });
+    }
+    
+    private void think(Runnable next) {
+        long thinkMillis = ThreadLocalRandom.current().nextLong(options.thinkMin().toMillis(), options.thinkMax().toMillis() + 1);
+        if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(thinkMillis) >= deadline) {
+            done.complete(null);
+            return;
+        }
+        timer.schedule(next, thinkMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Roughly by frequency, as people play, but with neighbours swapped at random so games differ
+     */
+    private static char[] guessOrder() {
+        char[] order = LETTER_FREQUENCY.toCharArray();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < order.length - 1; i++) {
+            if (random.nextInt(3) == 0) {
+                char swapped = order[i];
+                order[i] = order[i + 1];
+                order[i + 1] = swapped;
+            }
+        }
+        return order;
+    }
+    
+    @FunctionalInterface
+    private interface SuccessHandler {
+        boolean handle(String body);
+    }
+}
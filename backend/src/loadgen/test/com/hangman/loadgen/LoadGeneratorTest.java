@@ -0,0 +1,44 @@
+package com.hangman.loadgen;
+
+import com.hangman.loadgen.LoadStatistics.Operation;
+import com.hangman.loadgen.LoadStatistics.Summary;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {"hangman.journal.enabled=false", "hangman.snapshot.enabled=false"})
+public class LoadGeneratorTest {
+    
+    @LocalServerPort
+    private int port;
+    
+    @Test
+    public void testPlayersCreateGuessAndPollWithoutErrors() throws Exception {
+        // One attempt per game, so players also start new games within the short run
+        LoadGenerator.Options options = LoadGenerator.Options.parse(new String[] {
+            "--players", "50", "--ramp-up", "1", "--warmup", "1", "--duration", "3",
+            "--think-min", "5", "--think-max", "20", "--report-every", "1", "--max-attempts", "1"});
+        
+        LoadStatistics statistics = new LoadGenerator(options).run(URI.create("http://localhost:" + port));
+        
+        for (Operation operation : Operation.values()) {
+            Summary summary = statistics.summary(operation);
+            assertTrue(summary.requests() > 0, "No " + operation + " requests");
+            assertEquals(0, summary.errors(), operation + " errors");
+            assertEquals(0, summary.notFound(), operation + " not found");
+        }
+    }
+    
+    @Test
+    public void testRejectsInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> LoadGenerator.Options.parse(new String[] {"--players", "0"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> LoadGenerator.Options.parse(new String[] {"--think-min", "100", "--think-max", "50"}));
+    }
+}
@@ -1,18 +1,36 @@
 package com.hangman;
 
+import com.hangman.controller.HangmanController;
+import com.hangman.snapshot.GameSnapshotter;
+import com.hangman.store.GameExpirySweeper;
+import org.springframework.boot.LazyInitializationExcludeFilter;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
-@SpringBootApplication
+// R2DBC is only on the classpath for the reactive variant, and its ConnectionFactory would displace the JPA DataSource
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@PropertySource("classpath:hangman-defaults.properties")
 public class HangmanServiceApplication {
-
+    
     public static void main(String[] args) {
         SpringApplication.run(HangmanServiceApplication.class, args);
     }
-
+    
+    /**
+     * Beans created at startup even with {@code spring.main.lazy-initialization}: the request path, so the first
+     * request does not pay for it, and beans that start work of their own when created
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(HangmanController.class, GameSnapshotter.class, GameExpirySweeper.class);
+    }
+    
     @Configuration
     public static class CorsConfig implements WebMvcConfigurer {
         @Override
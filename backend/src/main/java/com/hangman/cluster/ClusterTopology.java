@@ -0,0 +1,98 @@
+package com.hangman.cluster;
+
+import com.hangman.domain.GameIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Which instance owns which game.
+ * <p>
+ * The {@link GameIds#SHARDS} shards are spread over the configured nodes with a
+ * {@link ConsistentHashRing}; a game belongs to the node owning the shard in its ID.
+ * New games are created in a shard this node owns, so they are always served locally.
+ * Without {@code hangman.cluster.nodes} the instance runs standalone and owns every shard.
+ */
+@Component
+@Slf4j
+public class ClusterTopology {
+    
+    private final List<String> nodes;
+    private final int self;
+    private final int[] shardOwners = new int[GameIds.SHARDS];
+    private final int[] localShards;
+    
+    @Autowired
+    public ClusterTopology(@Value("${hangman.cluster.nodes:}") List<String> nodes,
+                           @Value("${hangman.cluster.self:}") String self,
+                           @Value("${hangman.cluster.virtual-nodes:128}") int virtualNodes) {
+        this.nodes = nodes.stream().map(ClusterTopology::normalize).filter(node -> !node.isEmpty()).toList();
+        if (this.nodes.isEmpty()) {
+            this.self = -1;
+            this.localShards = new int[0];
+            return;
+        }
+        this.self = this.nodes.indexOf(normalize(self));
+        if (this.self < 0) {
+            throw new IllegalArgumentException("hangman.cluster.self must be one of hangman.cluster.nodes, was: " + self);
+        }
+        ConsistentHashRing ring = new ConsistentHashRing(this.nodes, virtualNodes);
+        List<Integer> local = new ArrayList<>();
+        for (int shard = 0; shard < GameIds.SHARDS; shard++) {
+            shardOwners[shard] = ring.ownerOf(ConsistentHashRing.mix(shard));
+            if (shardOwners[shard] == this.self) {
+                local.add(shard);
+            }
+        }
+        this.localShards = local.stream().mapToInt(Integer::intValue).toArray();
+        log.info("Cluster node {} of {} owns {} of {} shards", self, this.nodes.size(), localShards.length, GameIds.SHARDS);
+    }
+    
+    public static ClusterTopology standalone() {
+        return new ClusterTopology(List.of(), "", 1);
+    }
+    
+    public boolean isClustered() {
+        return self >= 0;
+    }
+    
+    /**
+     * @return a random shard owned by this node, for a new game
+     */
+    public int localShard() {
+        if (localShards.length == 0) {
+            return GameIds.randomShard();
+        }
+        return localShards[ThreadLocalRandom.current().nextInt(localShards.length)];
+    }
+    
+    /**
+     * @param gameId a game ID
+     * @return the base URL of the node owning the game, or null if it is this node
+     *         or the ID carries no shard
+     */
+    public String ownerOf(String gameId) {
+        if (!isClustered()) {
+            return null;
+        }
+        int shard = GameIds.shardOf(gameId);
+        if (shard < 0 || shardOwners[shard] == self) {
+            return null;
+        }
+        return nodes.get(shardOwners[shard]);
+    }
+    
+    public List<String> getNodes() {
+        return nodes;
+    }
+    
+    private static String normalize(String node) {
+        String trimmed = node.trim();
+        return trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+    }
+}
@@ -0,0 +1,70 @@
+package com.hangman.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent hash ring over a list of nodes, each placed at several virtual points.
+ * Adding or removing a node only moves the keys between its points and their predecessors.
+ */
+final class ConsistentHashRing {
+    
+    private final long[] points;
+    private final int[] owners;
+    
+    /**
+     * @param nodes the nodes; a key maps to an index into this list
+     * @param virtualNodes the points per node
+     */
+    ConsistentHashRing(List<String> nodes, int virtualNodes) {
+        if (nodes.isEmpty() || virtualNodes < 1) {
+            throw new IllegalArgumentException("A ring needs at least one node and one point per node");
+        }
+        long[][] entries = new long[nodes.size() * virtualNodes][];
+        for (int node = 0; node < nodes.size(); node++) {
+            for (int i = 0; i < virtualNodes; i++) {
+                entries[node * virtualNodes + i] = new long[] {hash(nodes.get(node) + "#" + i), node};
+            }
+        }
+        Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[entries.length];
+        this.owners = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            points[i] = entries[i][0];
+            owners[i] = (int) entries[i][1];
+        }
+    }
+    
+    /**
+     * @return the index of the node owning the key: the first point at or after it, wrapping around
+     */
+    int ownerOf(long key) {
+        int index = Arrays.binarySearch(points, key);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+    
+    /**
+     * FNV-1a over the UTF-8 bytes, finished with a 64-bit mix so similar names spread over the ring
+     */
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+    
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
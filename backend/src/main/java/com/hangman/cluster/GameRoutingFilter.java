@@ -0,0 +1,364 @@
+package com.hangman.cluster;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.codec.CompactGameCodec;
+import com.hangman.codec.ResponseEncoding;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import com.hangman.service.HangmanService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends requests for a game to the node that owns it, see {@link ClusterTopology}.
+ * <p>
+ * With {@code hangman.cluster.routing=forward} the request is proxied and the owner's answer
+ * relayed; with {@code redirect} the client gets a {@code 307} to the owner. Event streams and
+ * WebSocket handshakes are always redirected. A batch spanning several owners is split: each
+ * owner gets its part, and the results are merged back into request order.
+ * Forwarded requests carry {@value #FORWARDED_HEADER} and are never routed again, so nodes with
+ * different node lists cannot bounce a request between them.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+@Slf4j
+public class GameRoutingFilter extends OncePerRequestFilter {
+    
+    static final String FORWARDED_HEADER = "X-Hangman-Forwarded";
+    
+    private static final String GAMES = "/api/games/";
+    private static final String SOCKETS = "/ws/games/";
+    private static final String GUESS = GAMES + "guess";
+    private static final String BATCH = GAMES + "guess/batch";
+    private static final String EVENTS = "/events";
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(
+        HttpHeaders.ACCEPT, HttpHeaders.CONTENT_TYPE, HttpHeaders.IF_NONE_MATCH);
+    private static final List<String> RELAYED_RESPONSE_HEADERS = List.of(
+        HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+    
+    private final ClusterTopology topology;
+    private final HangmanService hangmanService;
+    private final ObjectMapper objectMapper;
+    private final boolean redirect;
+    private final Duration timeout;
+    private final HttpClient client;
+    
+    public GameRoutingFilter(ClusterTopology topology,
+                             HangmanService hangmanService,
+                             ObjectMapper objectMapper,
+                             @Value("${hangman.cluster.routing:forward}") String routing,
+                             @Value("${hangman.cluster.forward-timeout-ms:5000}") long timeoutMs) {
+        this.topology = topology;
+        this.hangmanService = hangmanService;
+        this.objectMapper = objectMapper;
+        this.redirect = "redirect".equalsIgnoreCase(routing);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(timeout)
+            .build();
+    }
+    
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!topology.isClustered() || request.getHeader(FORWARDED_HEADER) != null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return !path.startsWith(GAMES) && !path.startsWith(SOCKETS);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI();
+        boolean post = "POST".equals(request.getMethod());
+        
+        if (post && path.equals(BATCH)) {
+            routeBatch(request, response, chain);
+        } else if (post && path.equals(GUESS)) {
+            byte[] body = request.getInputStream().readAllBytes();
+            String owner = topology.ownerOf(gameIdOf(body));
+            if (owner == null) {
+                chain.doFilter(new CachedBodyRequest(request, body), response);
+            } else {
+                route(owner, request, body, response, redirect);
+            }
+        } else if ("GET".equals(request.getMethod()) && (path.startsWith(GAMES) || path.startsWith(SOCKETS))) {
+            String rest = path.substring(path.startsWith(GAMES) ? GAMES.length() : SOCKETS.length());
+            boolean stream = path.startsWith(SOCKETS) || rest.endsWith(EVENTS);
+            // Sub-resources such as /events and /hint belong to the game before them
+            String gameId = rest.indexOf('/') >= 0 ? rest.substring(0, rest.indexOf('/')) : rest;
+            String owner = topology.ownerOf(gameId);
+            if (owner == null) {
+                chain.doFilter(request, response);
+            } else {
+                route(owner, request, null, response, redirect || stream);
+            }
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+    
+    private void route(String owner, HttpServletRequest request, byte[] body, HttpServletResponse response, boolean redirect)
+            throws IOException {
+        URI target = URI.create(owner + request.getRequestURI()
+            + (request.getQueryString() != null ? "?" + request.getQueryString() : ""));
+        if (redirect) {
+            log.debug("Redirecting {} {} to {}", request.getMethod(), request.getRequestURI(), owner);
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, target.toString());
+            return;
+        }
+        log.debug("Forwarding {} {} to {}", request.getMethod(), request.getRequestURI(), owner);
+        HttpRequest.Builder forward = HttpRequest.newBuilder(target)
+            .timeout(timeout)
+            .header(FORWARDED_HEADER, owner)
+            .method(request.getMethod(), body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(body));
+        for (String header : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                forward.header(header, value);
+            }
+        }
+        HttpResponse<byte[]> answer;
+        try {
+            answer = client.send(forward.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            log.warn("Owner {} is unreachable: {}", owner, e.getMessage());
+            writeError(request, response, HttpStatus.BAD_GATEWAY, "Owner of the game is unavailable");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writeError(request, response, HttpStatus.BAD_GATEWAY, "Owner of the game is unavailable");
+            return;
+        }
+        response.setStatus(answer.statusCode());
+        for (String header : RELAYED_RESPONSE_HEADERS) {
+            answer.headers().firstValue(header).ifPresent(value -> response.setHeader(header, value));
+        }
+        response.getOutputStream().write(answer.body());
+    }
+    
+    /**
+     * Applies the local part of a batch in place and forwards every other owner's part in parallel
+     */
+    private void routeBatch(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        BatchGuessRequest batch;
+        try {
+            batch = objectMapper.readValue(body, BatchGuessRequest.class);
+        } catch (IOException e) {
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+        List<GuessRequest> guesses = batch.getGuesses();
+        if (guesses == null || guesses.isEmpty() || guesses.size() > HangmanService.MAX_BATCH_SIZE) {
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+        
+        Map<String, List<Integer>> byOwner = new LinkedHashMap<>();
+        for (int i = 0; i < guesses.size(); i++) {
+            GuessRequest guess = guesses.get(i);
+            String owner = guess == null ? null : topology.ownerOf(guess.getId());
+            byOwner.computeIfAbsent(owner, key -> new ArrayList<>()).add(i);
+        }
+        if (byOwner.size() == 1 && byOwner.containsKey(null)) {
+            chain.doFilter(new CachedBodyRequest(request, body), response);
+            return;
+        }
+        
+        Map<String, CompletableFuture<List<GameResponse>>> remote = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Integer>> part : byOwner.entrySet()) {
+            if (part.getKey() != null) {
+                remote.put(part.getKey(), forwardBatch(part.getKey(), request.getRequestURI(), subBatch(guesses, part.getValue())));
+            }
+        }
+        GameResponse[] results = new GameResponse[guesses.size()];
+        List<Integer> local = byOwner.get(null);
+        if (local != null) {
+            merge(results, local, hangmanService.guessAll(subBatch(guesses, local)));
+        }
+        for (Map.Entry<String, CompletableFuture<List<GameResponse>>> part : remote.entrySet()) {
+            List<Integer> indexes = byOwner.get(part.getKey());
+            try {
+                merge(results, indexes, part.getValue().join());
+            } catch (RuntimeException e) {
+                log.warn("Owner {} failed a batch part: {}", part.getKey(), e.getMessage());
+                for (int i : indexes) {
+                    results[i] = new GameResponse(guesses.get(i).getId(), null, 0, 0, null, "Owner of the game is unavailable");
+                }
+            }
+        }
+        writeBody(request, response, HttpStatus.OK, List.of(results));
+    }
+    
+    private CompletableFuture<List<GameResponse>> forwardBatch(String owner, String path, List<GuessRequest> guesses)
+            throws IOException {
+        HttpRequest forward = HttpRequest.newBuilder(URI.create(owner + path))
+            .timeout(timeout)
+            .header(FORWARDED_HEADER, owner)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(new BatchGuessRequest(guesses))))
+            .build();
+        return client.sendAsync(forward, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(answer -> {
+                if (answer.statusCode() != HttpStatus.OK.value()) {
+                    throw new IllegalStateException("Status " + answer.statusCode());
+                }
+                try {
+                    return objectMapper.readValue(answer.body(), new TypeReference<List<GameResponse>>() { });
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+    }
+    
+    private static List<GuessRequest> subBatch(List<GuessRequest> guesses, List<Integer> indexes) {
+        List<GuessRequest> part = new ArrayList<>(indexes.size());
+        for (int i : indexes) {
+            part.add(guesses.get(i));
+        }
+        return part;
+    }
+    
+    private static void merge(GameResponse[] results, List<Integer> indexes, List<GameResponse> part) {
+        for (int i = 0; i < indexes.size(); i++) {
+            results[indexes.get(i)] = part.get(i);
+        }
+    }
+    
+    private String gameIdOf(byte[] body) {
+        try {
+            JsonNode id = objectMapper.readTree(body).get("id");
+            return id != null && id.isTextual() ? id.asText() : null;
+        } catch (IOException e) {
+            return null; // Left to the controller to reject
+        }
+    }
+    
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        writeBody(request, response, status, new GameResponse(null, null, 0, 0, null, message));
+    }
+    
+    private void writeBody(HttpServletRequest request, HttpServletResponse response, HttpStatus status, Object body)
+            throws IOException {
+        ResponseEncoding encoding = ResponseEncoding.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        response.setStatus(status.value());
+        if (encoding == ResponseEncoding.COMPACT) {
+            response.setContentType(CompactGameCodec.MEDIA_TYPE_VALUE);
+            response.getOutputStream().write(CompactGameCodec.encode(body));
+        } else {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(objectMapper.writeValueAsBytes(body));
+        }
+    }
+    
+    /**
+     * A request whose body was already read to find the game ID
+     */
+    static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        
+        private final byte[] body;
+        
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+        
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+                
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+                
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+                
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+                
+                /**
+                 * The body is in memory, so all of it is available at once and the listener is called right away
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+        
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+        
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+        
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hangman.codec;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class CompactCodecConfig implements WebMvcConfigurer {
+    
+    /**
+     * Added after the JSON converter, so clients that accept any type still get JSON
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new CompactGameMessageConverter());
+    }
+}
@@ -0,0 +1,303 @@
+package com.hangman.codec;
+
+import com.hangman.domain.Game;
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameResponse;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of {@link GameResponse} and {@link GameDelta}.
+ * <p>
+ * Every record starts with a kind byte and a flags byte; fields that are absent or empty are left out.
+ * Numbers are unsigned LEB128 varints, strings a varint byte count followed by UTF-8.
+ * A game ID in UUID form takes 16 bytes, and a masked word is sent without the spaces between its characters.
+ * The status uses two bits of the flags: 0 for none, otherwise the {@link Game.GameStatus} ordinal plus one.
+ * <pre>
+ * response: 0x01 flags [id] [maskedWord] failedAttempts maxAttempts [message]
+ * delta:    0x02 flags version revealedMask [revealed] [failedAttempts] [word]
+ * list:     0x03 count record...
+ * </pre>
+ */
+public final class CompactGameCodec {
+    
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.hangman+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+    
+    static final byte RESPONSE = 1;
+    static final byte DELTA = 2;
+    static final byte LIST = 3;
+    
+    private static final int HAS_ID = 1;
+    private static final int UUID_ID = 1 << 1;
+    private static final int HAS_MASKED_WORD = 1 << 2;
+    private static final int SPACED_MASKED_WORD = 1 << 3;
+    private static final int HAS_MESSAGE = 1 << 4;
+    private static final int HAS_FAILED_ATTEMPTS = 1;
+    private static final int HAS_WORD = 1 << 1;
+    private static final int STATUS_SHIFT = 5;
+    private static final int STATUS_BITS = 3 << STATUS_SHIFT;
+    
+    private CompactGameCodec() {
+    }
+    
+    /**
+     * @param value a {@link GameResponse}, a {@link GameDelta} or a list of them
+     * @return the encoded bytes
+     * @throws IllegalArgumentException if the value cannot be encoded
+     */
+    public static byte[] encode(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        if (value instanceof List<?> list) {
+            out.write(LIST);
+            putVarLong(out, list.size());
+            for (Object element : list) {
+                encodeRecord(element, out);
+            }
+        } else {
+            encodeRecord(value, out);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * @return a {@link GameResponse}, a {@link GameDelta} or a list of them
+     * @throws IllegalArgumentException if the bytes are not a valid encoding
+     */
+    public static Object decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.get(0) != LIST) {
+                return decodeRecord(buffer);
+            }
+            buffer.get();
+            int count = (int) getVarLong(buffer);
+            List<Object> list = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                list.add(decodeRecord(buffer));
+            }
+            return list;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid compact game encoding", e);
+        }
+    }
+    
+    private static void encodeRecord(Object value, ByteArrayOutputStream out) {
+        if (value instanceof GameResponse response) {
+            encodeResponse(response, out);
+        } else if (value instanceof GameDelta delta) {
+            encodeDelta(delta, out);
+        } else {
+            throw new IllegalArgumentException("Cannot encode " + (value == null ? null : value.getClass().getName()));
+        }
+    }
+    
+    private static Object decodeRecord(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        switch (kind) {
+            case RESPONSE: return decodeResponse(buffer);
+            case DELTA: return decodeDelta(buffer);
+            default: throw new IllegalArgumentException("Unknown record kind: " + kind);
+        }
+    }
+    
+    private static void encodeResponse(GameResponse response, ByteArrayOutputStream out) {
+        String id = response.getId();
+        UUID uuid = id != null ? parseUuid(id) : null;
+        String maskedWord = response.getMaskedWord();
+        boolean spaced = maskedWord != null && isSpaced(maskedWord);
+        String message = response.getMessage();
+        
+        int flags = statusBits(response.getStatus());
+        if (id != null) {
+            flags |= uuid != null ? HAS_ID | UUID_ID : HAS_ID;
+        }
+        if (maskedWord != null) {
+            flags |= spaced ? HAS_MASKED_WORD | SPACED_MASKED_WORD : HAS_MASKED_WORD;
+        }
+        if (message != null && !message.isEmpty()) {
+            flags |= HAS_MESSAGE;
+        }
+        
+        out.write(RESPONSE);
+        out.write(flags);
+        if (uuid != null) {
+            putLong(out, uuid.getMostSignificantBits());
+            putLong(out, uuid.getLeastSignificantBits());
+        } else if (id != null) {
+            putString(out, id);
+        }
+        if (maskedWord != null) {
+            putString(out, spaced ? unspace(maskedWord) : maskedWord);
+        }
+        putVarLong(out, Integer.toUnsignedLong(response.getFailedAttempts()));
+        putVarLong(out, Integer.toUnsignedLong(response.getMaxAttempts()));
+        if ((flags & HAS_MESSAGE) != 0) {
+            putString(out, message);
+        }
+    }
+    
+    private static GameResponse decodeResponse(ByteBuffer buffer) {
+        int flags = buffer.get() & 0xFF;
+        GameResponse response = new GameResponse();
+        if ((flags & UUID_ID) != 0) {
+            response.setId(new UUID(buffer.getLong(), buffer.getLong()).toString());
+        } else if ((flags & HAS_ID) != 0) {
+            response.setId(getString(buffer));
+        }
+        if ((flags & HAS_MASKED_WORD) != 0) {
+            String maskedWord = getString(buffer);
+            response.setMaskedWord((flags & SPACED_MASKED_WORD) != 0 ? respace(maskedWord) : maskedWord);
+        }
+        response.setFailedAttempts((int) getVarLong(buffer));
+        response.setMaxAttempts((int) getVarLong(buffer));
+        response.setStatus(status(flags));
+        response.setMessage((flags & HAS_MESSAGE) != 0 ? getString(buffer) : "");
+        return response;
+    }
+    
+    private static void encodeDelta(GameDelta delta, ByteArrayOutputStream out) {
+        int flags = statusBits(delta.getStatus());
+        if (delta.getFailedAttempts() != null) {
+            flags |= HAS_FAILED_ATTEMPTS;
+        }
+        if (delta.getWord() != null) {
+            flags |= HAS_WORD;
+        }
+        
+        out.write(DELTA);
+        out.write(flags);
+        putVarLong(out, delta.getVersion());
+        putVarLong(out, delta.getRevealedMask());
+        if (delta.getRevealedMask() != 0) {
+            putString(out, delta.getRevealed());
+        }
+        if (delta.getFailedAttempts() != null) {
+            putVarLong(out, Integer.toUnsignedLong(delta.getFailedAttempts()));
+        }
+        if (delta.getWord() != null) {
+            putString(out, delta.getWord());
+        }
+    }
+    
+    private static GameDelta decodeDelta(ByteBuffer buffer) {
+        int flags = buffer.get() & 0xFF;
+        GameDelta delta = new GameDelta();
+        delta.setVersion(getVarLong(buffer));
+        delta.setRevealedMask(getVarLong(buffer));
+        delta.setRevealed(delta.getRevealedMask() != 0 ? getString(buffer) : "");
+        if ((flags & HAS_FAILED_ATTEMPTS) != 0) {
+            delta.setFailedAttempts((int) getVarLong(buffer));
+        }
+        delta.setStatus(status(flags));
+        if ((flags & HAS_WORD) != 0) {
+            delta.setWord(getString(buffer));
+        }
+        return delta;
+    }
+    
+    /**
+     * @return the UUID, or null if the ID is not a UUID in canonical form
+     */
+    private static UUID parseUuid(String id) {
+        if (id.length() != 36) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(id);
+            return uuid.toString().equals(id) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * @return true if every other character is a separating space, as rendered by {@link Game#getMaskedWord()}
+     */
+    private static boolean isSpaced(String maskedWord) {
+        if (maskedWord.length() % 2 == 0) {
+            return false;
+        }
+        for (int i = 1; i < maskedWord.length(); i += 2) {
+            if (maskedWord.charAt(i) != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static String unspace(String maskedWord) {
+        char[] chars = new char[(maskedWord.length() + 1) / 2];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = maskedWord.charAt(i * 2);
+        }
+        return new String(chars);
+    }
+    
+    private static String respace(String word) {
+        if (word.isEmpty()) {
+            return word;
+        }
+        char[] chars = new char[word.length() * 2 - 1];
+        for (int i = 0; i < word.length(); i++) {
+            chars[i * 2] = word.charAt(i);
+            if (i < word.length() - 1) {
+                chars[i * 2 + 1] = ' ';
+            }
+        }
+        return new String(chars);
+    }
+    
+    private static int statusBits(String status) {
+        return status == null ? 0 : (Game.GameStatus.valueOf(status).ordinal() + 1) << STATUS_SHIFT;
+    }
+    
+    private static String status(int flags) {
+        int bits = (flags & STATUS_BITS) >>> STATUS_SHIFT;
+        return bits == 0 ? null : Game.GameStatus.values()[bits - 1].toString();
+    }
+    
+    private static void putVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+    
+    private static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Varint too long");
+    }
+    
+    private static void putLong(ByteArrayOutputStream out, long value) {
+        for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+    
+    private static void putString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+    
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[(int) getVarLong(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+package com.hangman.codec;
+
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Writes game responses and deltas, and lists of them, as {@link CompactGameCodec#MEDIA_TYPE}
+ * for clients that ask for it in their {@code Accept} header. Request bodies stay JSON.
+ */
+public class CompactGameMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    
+    public CompactGameMessageConverter() {
+        super(CompactGameCodec.MEDIA_TYPE);
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return isRecord(clazz) || List.class.isAssignableFrom(clazz);
+    }
+    
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+    
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType) || clazz == null) {
+            return false;
+        }
+        if (isRecord(clazz)) {
+            return true;
+        }
+        if (!List.class.isAssignableFrom(clazz) || type == null) {
+            return false;
+        }
+        Class<?> element = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return element != null && isRecord(element);
+    }
+    
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(CompactGameCodec.encode(value));
+    }
+    
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact game encoding is only written", inputMessage);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Compact game encoding is only written", inputMessage);
+    }
+    
+    private static boolean isRecord(Class<?> clazz) {
+        return clazz == GameResponse.class || clazz == GameDelta.class;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hangman.codec;
+
+/**
+ * One version of a game's {@link com.hangman.dto.GameResponse}, already encoded.
+ * Instances are immutable; an encoding added later produces a new instance.
+ */
+public final class EncodedGame {
+    
+    /** Rough per-entry overhead of the cache: entry, arrays, map node */
+    private static final int OVERHEAD = 128;
+    
+    private final String gameId;
+    private final long version;
+    private final boolean gameOver;
+    private final byte[][] encoded;
+    
+    EncodedGame(String gameId, long version, boolean gameOver, byte[][] encoded) {
+        this.gameId = gameId;
+        this.version = version;
+        this.gameOver = gameOver;
+        this.encoded = encoded;
+    }
+    
+    public String getGameId() {
+        return gameId;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    
+    /**
+     * @return the bytes in the given encoding, or null if they were not encoded yet
+     */
+    public byte[] bytes(ResponseEncoding encoding) {
+        return encoded[encoding.ordinal()];
+    }
+    
+    EncodedGame with(ResponseEncoding encoding, byte[] bytes) {
+        byte[][] copy = encoded.clone();
+        copy[encoding.ordinal()] = bytes;
+        return new EncodedGame(gameId, version, gameOver, copy);
+    }
+    
+    /**
+     * @return the approximate heap size, used to bound the cache
+     */
+    long weight() {
+        long weight = OVERHEAD + 2L * gameId.length();
+        for (byte[] bytes : encoded) {
+            if (bytes != null) {
+                weight += bytes.length;
+            }
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,184 @@
+package com.hangman.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import com.hangman.dto.GameResponse;
+import com.hangman.event.GameEventListener;
+import com.hangman.store.GameStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of encoded {@link GameResponse}s, keyed by game ID and version.
+ * <p>
+ * A hit hands out bytes encoded earlier, without building a response or running Jackson.
+ * A miss encodes the game under its lock, so the bytes and their version always describe
+ * the same state. The entry of a game is dropped whenever a guess is applied to it.
+ * <p>
+ * Entries live in segments, each an access-ordered map evicting its least recently used
+ * entries once it holds more than its share of {@code hangman.response-cache.max-bytes}.
+ * A limit of 0 disables caching; every request is then encoded.
+ */
+@Component
+public class GameResponseCache implements GameEventListener {
+    
+    private final GameStore gameStore;
+    private final ObjectMapper objectMapper;
+    private final Segment[] segments;
+    private final AtomicLong bytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    
+    public GameResponseCache(GameStore gameStore,
+                             ObjectMapper objectMapper,
+                             @Value("${hangman.response-cache.max-bytes:33554432}") long maxBytes,
+                             @Value("${hangman.response-cache.segments:16}") int segmentCount,
+                             MeterRegistry registry) {
+        this.gameStore = gameStore;
+        this.objectMapper = objectMapper;
+        this.segments = new Segment[Math.max(1, segmentCount)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(maxBytes / segments.length);
+        }
+        this.hits = cacheCounter(registry, "hit");
+        this.misses = cacheCounter(registry, "miss");
+        Gauge.builder("hangman.response.cache.bytes", bytes, AtomicLong::get)
+            .description("Approximate size of the encoded responses held")
+            .register(registry);
+    }
+    
+    /**
+     * @param game a game held by the store
+     * @param encoding the encoding to send
+     * @return the game's current state, encoded
+     */
+    public EncodedGame get(Game game, ResponseEncoding encoding) {
+        String gameId = game.getId();
+        Segment segment = segment(gameId);
+        EncodedGame cached = segment.get(gameId);
+        // A guess running meanwhile may already have raised the version; then this is a miss
+        if (cached != null && cached.getVersion() == game.getVersion() && cached.bytes(encoding) != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return gameStore.withLock(gameId, () -> {
+            EncodedGame current = segment.get(gameId);
+            EncodedGame encoded = current != null && current.getVersion() == game.getVersion()
+                ? current.with(encoding, encode(game, encoding))
+                : new EncodedGame(gameId, game.getVersion(), game.isGameOver(), new byte[ResponseEncoding.values().length][])
+                    .with(encoding, encode(game, encoding));
+            segment.put(encoded);
+            return encoded;
+        });
+    }
+    
+    public void invalidate(String gameId) {
+        segment(gameId).remove(gameId);
+    }
+    
+    @Override
+    public void guessApplied(Game game, char letter, GameGuessResult result) {
+        invalidate(game.getId());
+    }
+    
+    long size() {
+        return bytes.get();
+    }
+    
+    private byte[] encode(Game game, ResponseEncoding encoding) {
+        GameResponse response = GameResponse.fromGame(game);
+        if (encoding == ResponseEncoding.COMPACT) {
+            return CompactGameCodec.encode(response);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private Segment segment(String gameId) {
+        int h = gameId.hashCode();
+        h ^= (h >>> 16);
+        return segments[(h & Integer.MAX_VALUE) % segments.length];
+    }
+    
+    private static Counter cacheCounter(MeterRegistry registry, String result) {
+        return Counter.builder("hangman.response.cache")
+            .description("Game state reads served from or added to the response cache")
+            .tag("result", result)
+            .register(registry);
+    }
+    
+    private final class Segment {
+        
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, EncodedGame> entries = new LinkedHashMap<>(64, 0.75f, true);
+        private final long maxBytes;
+        private long size;
+        
+        Segment(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+        
+        EncodedGame get(String gameId) {
+            lock.lock();
+            try {
+                return entries.get(gameId);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void put(EncodedGame encoded) {
+            long weight = encoded.weight();
+            if (weight > maxBytes) {
+                remove(encoded.getGameId());
+                return;
+            }
+            lock.lock();
+            try {
+                EncodedGame previous = entries.put(encoded.getGameId(), encoded);
+                long delta = weight - (previous != null ? previous.weight() : 0);
+                size += delta;
+                // Least recently used first
+                Iterator<Map.Entry<String, EncodedGame>> eldest = entries.entrySet().iterator();
+                while (size > maxBytes && eldest.hasNext()) {
+                    long evicted = eldest.next().getValue().weight();
+                    eldest.remove();
+                    size -= evicted;
+                    delta -= evicted;
+                }
+                bytes.addAndGet(delta);
+            } finally {
+                lock.unlock();
+            }
+        }
+        
+        void remove(String gameId) {
+            lock.lock();
+            try {
+                EncodedGame removed = entries.remove(gameId);
+                if (removed != null) {
+                    size -= removed.weight();
+                    bytes.addAndGet(-removed.weight());
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.hangman.codec;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Encodings a game response can be sent in, for handlers that write pre-encoded bytes
+ * and so bypass Spring's message converters.
+ */
+public enum ResponseEncoding {
+    JSON(MediaType.APPLICATION_JSON, ""), COMPACT(CompactGameCodec.MEDIA_TYPE, "-c");
+    
+    private final MediaType mediaType;
+    private final String etagSuffix;
+    
+    ResponseEncoding(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    /**
+     * The version only grows, so together with the ID it identifies one state of the game.
+     * Strong ETags promise byte-identical bodies, so every encoding but JSON gets its own suffix.
+     * @return the quoted ETag of the game's state in this encoding
+     */
+    public String etagOf(String gameId, long version) {
+        return "\"" + gameId + "-" + version + etagSuffix + "\"";
+    }
+    
+    /**
+     * Picks the encoding with the highest quality in an {@code Accept} header; on a tie the
+     * type listed first wins, and JSON wins over a wildcard
+     * @param accept the header value, or null
+     * @return the encoding, or null if the client accepts neither
+     */
+    public static ResponseEncoding negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        ResponseEncoding best = null;
+        double bestQuality = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                double quality = type.getQualityValue();
+                for (ResponseEncoding encoding : values()) {
+                    if (quality > bestQuality && type.includes(encoding.mediaType)) {
+                        best = encoding;
+                        bestQuality = quality;
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        return best;
+    }
+}
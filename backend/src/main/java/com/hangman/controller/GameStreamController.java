@@ -0,0 +1,52 @@
+package com.hangman.controller;
+
+import com.hangman.push.GamePublisher;
+import com.hangman.push.SseGameSubscriber;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of a game's state, for clients that cannot use the
+ * WebSocket endpoint {@code /ws/games/{id}}. Guesses are still posted to the REST API.
+ */
+@RestController
+@RequestMapping("/api/games")
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class GameStreamController {
+    
+    private final GamePublisher publisher;
+    private final long timeoutMs;
+    
+    public GameStreamController(GamePublisher publisher,
+                                @Value("${hangman.push.sse-timeout-ms:1800000}") long timeoutMs) {
+        this.publisher = publisher;
+        this.timeoutMs = timeoutMs;
+    }
+    
+    /**
+     * Stream game updates
+     * GET /api/games/{id}/events
+     * @return 200 OK with an event stream: the current state, then one {@code game} event per guess
+     *         404 Not Found if game doesn't exist
+     */
+    @GetMapping(path = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamGame(@PathVariable String id) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        SseGameSubscriber subscriber = new SseGameSubscriber(emitter);
+        emitter.onCompletion(() -> publisher.unsubscribe(id, subscriber));
+        emitter.onTimeout(() -> publisher.unsubscribe(id, subscriber));
+        emitter.onError(e -> publisher.unsubscribe(id, subscriber));
+        try {
+            publisher.subscribe(id, subscriber);
+        } catch (IllegalArgumentException e) {
+            log.warn("Event stream for unknown game: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -1,16 +1,34 @@
 package com.hangman.controller;
 
+import com.hangman.codec.EncodedGame;
+import com.hangman.codec.GameResponseCache;
+import com.hangman.codec.ResponseEncoding;
 import com.hangman.domain.Game;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.BulkStartGameRequest;
+import com.hangman.dto.GameDelta;
 import com.hangman.dto.GameResponse;
 import com.hangman.dto.GuessRequest;
+import com.hangman.dto.HintResponse;
 import com.hangman.dto.StartGameRequest;
+import com.hangman.metrics.GameMetrics;
+import com.hangman.metrics.GameMetrics.Operation;
+import com.hangman.metrics.GameMetrics.Stage;
 import com.hangman.service.HangmanService;
+import com.hangman.service.LetterHint;
+import com.hangman.service.WordFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
 @RestController
 @RequestMapping("/api/games")
 @RequiredArgsConstructor
@@ -19,20 +37,67 @@ import org.springframework.web.bind.annotation.*;
 public class HangmanController {
     
     private final HangmanService hangmanService;
+    private final GameMetrics metrics;
+    private final GameResponseCache responseCache;
     
     /**
      * Start a new game
      * Test Kommentar
      * POST /api/games
+     * Request body (all optional): {"maxAttempts": 15, "playerId": "p1", "category": "tiere", "minLength": 4, "maxLength": 8}
      * @return 201 Created with game details (id, maskedWord, failedAttempts)
+     *         400 Bad Request if no word matches the filter
      */
     @PostMapping
     public ResponseEntity<GameResponse> startGame(@RequestBody(required = false) StartGameRequest request) {
         int maxAttempts = (request != null && request.getMaxAttempts() > 0) 
             ? request.getMaxAttempts() 
             : 15;  // Default: 15
-        Game game = hangmanService.startNewGame(maxAttempts);
-        return ResponseEntity.ok(GameResponse.fromGame(game));
+        String playerId = request != null ? request.getPlayerId() : null;
+        WordFilter filter = request != null
+            ? new WordFilter(request.getCategory(), request.getMinLength(), request.getMaxLength())
+            : WordFilter.ANY;
+        
+        Game game;
+        try {
+            game = playerId == null && filter.isAny()
+                ? hangmanService.startNewGame(maxAttempts)
+                : hangmanService.startNewGame(maxAttempts, playerId, filter);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid start request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(new GameResponse(null, null, 0, 0, null, e.getMessage()));
+        }
+        long start = System.nanoTime();
+        GameResponse response = GameResponse.fromGame(game);
+        metrics.recordStage(Operation.START_NEW_GAME, Stage.SERIALIZATION, start);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Start many games in one request
+     * POST /api/games/bulk
+     * Request body: {"count": 30, "maxAttempts": 15}
+     * @param request the number of games and their maximum attempts
+     * @return 200 OK with one game per entry
+     *         400 Bad Request if count is out of range
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<GameResponse>> startGames(@RequestBody BulkStartGameRequest request) {
+        int maxAttempts = request.getMaxAttempts() > 0 
+            ? request.getMaxAttempts() 
+            : 15;  // Default: 15
+        
+        try {
+            List<GameResponse> responses = hangmanService.startNewGames(request.getCount(), maxAttempts).stream()
+                .map(GameResponse::fromGame)
+                .toList();
+            return ResponseEntity.ok(responses);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(List.of(new GameResponse(null, null, 0, 0, null, e.getMessage())));
+        }
     }
     
     /**
@@ -46,24 +111,44 @@ public class HangmanController {
      */
     @PostMapping("/guess")
     public ResponseEntity<GameResponse> guess(@RequestBody GuessRequest request) {
-        log.info("Received guess request - gameId: {}, letter: {}", request.getId(), request.getLetter());
+        return guess(request, GameResponse::fromGame, GameResponse.class);
+    }
+    
+    /**
+     * Submit a guess and receive only what it changed
+     * POST /api/games/guess?delta=true
+     * Request body: {"id": "game-id", "letter": "a"}
+     * @param request the guess request
+     * @return 200 OK with the positions of the letter, the failed attempts after a miss and the status once the game is over
+     *         400 Bad Request if letter is invalid
+     *         404 Not Found if game doesn't exist
+     */
+    @PostMapping(path = "/guess", params = "delta=true")
+    public ResponseEntity<Object> guessDelta(@RequestBody GuessRequest request) {
+        return guess(request, game -> GameDelta.fromGuess(game, request.getLetter().charAt(0)), Object.class);
+    }
+    
+    private <T> ResponseEntity<T> guess(GuessRequest request, Function<Game, ? extends T> toBody, Class<T> bodyType) {
+        log.debug("Received guess request - gameId: {}, letter: {}", request.getId(), request.getLetter());
         
         // Validate request
         if (request.getId() == null || request.getId().isEmpty()) {
             log.warn("Missing game ID in request");
             return ResponseEntity.badRequest()
-                .body(new GameResponse(null, null, 0, 0, null, "Game ID is required"));
+                .body(bodyType.cast(new GameResponse(null, null, 0, 0, null, "Game ID is required")));
         }
         
         if (request.getLetter() == null || request.getLetter().isEmpty()) {
             log.warn("Missing letter in request");
             return ResponseEntity.badRequest()
-                .body(new GameResponse(null, null, 0, 0, null, "Letter is required"));
+                .body(bodyType.cast(new GameResponse(null, null, 0, 0, null, "Letter is required")));
         }
         
         try {
             Game updatedGame = hangmanService.guess(request.getId(), request.getLetter());
-            GameResponse response = GameResponse.fromGame(updatedGame);
+            long start = System.nanoTime();
+            T response = toBody.apply(updatedGame);
+            metrics.recordStage(Operation.GUESS, Stage.SERIALIZATION, start);
             
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
@@ -72,34 +157,93 @@ public class HangmanController {
             // Determine if it's a 400 or 404
             if (e.getMessage().contains("Game not found")) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new GameResponse(null, null, 0, 0, null, e.getMessage()));
+                    .body(bodyType.cast(new GameResponse(null, null, 0, 0, null, e.getMessage())));
             } else {
                 return ResponseEntity.badRequest()
-                    .body(new GameResponse(null, null, 0, 0, null, e.getMessage()));
+                    .body(bodyType.cast(new GameResponse(null, null, 0, 0, null, e.getMessage())));
             }
         } catch (Exception e) {
             log.error("Error processing guess", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(new GameResponse(null, null, 0, 0, null, "Internal server error"));
+                .body(bodyType.cast(new GameResponse(null, null, 0, 0, null, "Internal server error")));
+        }
+    }
+    
+    /**
+     * Submit many guesses, possibly for several games, in one request
+     * POST /api/games/guess/batch
+     * Request body: {"guesses": [{"id": "game-id", "letter": "a"}, ...]}
+     * @param request the batch of guesses
+     * @return 200 OK with one result per guess in request order;
+     *         a failed guess has no status and carries the error message
+     *         400 Bad Request if the batch is empty or too large
+     */
+    @PostMapping("/guess/batch")
+    public ResponseEntity<List<GameResponse>> guessBatch(@RequestBody BatchGuessRequest request) {
+        log.debug("Received batch guess request with {} guesses",
+                request.getGuesses() == null ? 0 : request.getGuesses().size());
+        
+        try {
+            return ResponseEntity.ok(hangmanService.guessAll(request.getGuesses()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid batch request: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                .body(List.of(new GameResponse(null, null, 0, 0, null, e.getMessage())));
+        } catch (Exception e) {
+            log.error("Error processing batch guess", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(List.of(new GameResponse(null, null, 0, 0, null, "Internal server error")));
         }
     }
     
     /**
      * Get game state
      * GET /api/games/{id}
+     * Responses carry an ETag of the game's version and the encoding, so an ETag only matches a response
+     * in the same encoding; finished games never change and may be cached for a year.
+     * Caches keep JSON and compact responses apart by the Accept header.
+     * The body is written from {@link GameResponseCache}, so repeated reads of an unchanged game are not encoded again.
      * @param id the game ID
+     * @param ifNoneMatch ETags the client already holds
+     * @param accept the encodings the client accepts
      * @return 200 OK with game state
+     *         304 Not Modified if the client's ETag is current
      *         404 Not Found if game doesn't exist
+     *         406 Not Acceptable if the client accepts neither JSON nor the compact encoding
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GameResponse> getGame(@PathVariable String id) {
-        log.info("Received request to get game: {}", id);
+    public ResponseEntity<Object> getGame(@PathVariable String id,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        log.debug("Received request to get game: {}", id);
+        
+        ResponseEncoding encoding = ResponseEncoding.negotiate(accept);
+        if (encoding == null) {
+            return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
         
         try {
             Game game = hangmanService.getGame(id);
-            GameResponse response = GameResponse.fromGame(game);
+            String etag = encoding.etagOf(game.getId(), game.getVersion());
+            if (matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControlOf(game.isGameOver()))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+            }
             
-            return ResponseEntity.ok(response);
+            long start = System.nanoTime();
+            EncodedGame encoded = responseCache.get(game, encoding);
+            metrics.recordStage(Operation.GET_GAME, Stage.SERIALIZATION, start);
+            
+            // Headers follow the encoded state, which a concurrent guess may have moved past the game read above
+            return ResponseEntity.ok()
+                .eTag(encoding.etagOf(encoded.getGameId(), encoded.getVersion()))
+                .cacheControl(cacheControlOf(encoded.isGameOver()))
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(encoding.getMediaType())
+                .body(encoded.bytes(encoding));
         } catch (IllegalArgumentException e) {
             log.warn("Game not found: {}", id);
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -110,4 +254,57 @@ public class HangmanController {
                 .body(new GameResponse(null, null, 0, 0, null, "Internal server error"));
         }
     }
+    
+    /**
+     * Suggest the next letter
+     * GET /api/games/{id}/hint
+     * The letter is the one contained in the most dictionary words that fit the revealed positions and guessed letters.
+     * @param id the game ID
+     * @return 200 OK with the letter, the number of fitting words and the share of them containing the letter
+     *         400 Bad Request if the game is over
+     *         404 Not Found if game doesn't exist
+     */
+    @GetMapping("/{id}/hint")
+    public ResponseEntity<HintResponse> hint(@PathVariable String id) {
+        log.debug("Received hint request for game: {}", id);
+        
+        try {
+            LetterHint hint = hangmanService.hint(id);
+            long start = System.nanoTime();
+            HintResponse response = HintResponse.fromHint(id, hint);
+            metrics.recordStage(Operation.HINT, Stage.SERIALIZATION, start);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid hint request: {}", e.getMessage());
+            HttpStatus status = e.getMessage().contains("Game not found") ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status)
+                .body(new HintResponse(id, null, 0, 0, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error computing hint", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(new HintResponse(id, null, 0, 0, "Internal server error"));
+        }
+    }
+    
+    private static CacheControl cacheControlOf(boolean gameOver) {
+        return gameOver
+            ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+            : CacheControl.noCache();
+    }
+    
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag) || candidate.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,34 @@
+package com.hangman.controller;
+
+import com.hangman.dto.StatsResponse;
+import com.hangman.stats.GameStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Totals over all games this instance has started and finished, read from running counters
+ * instead of the stored games.
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class StatsController {
+    
+    private final GameStatistics statistics;
+    
+    /**
+     * Get game statistics
+     * GET /api/stats
+     * @return 200 OK with games started, won and lost, win rate and average failed attempts,
+     *         overall and per word length
+     */
+    @GetMapping
+    public ResponseEntity<StatsResponse> getStats() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(StatsResponse.fromCounts(statistics.byWordLength()));
+    }
+}
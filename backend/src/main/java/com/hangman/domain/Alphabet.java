@@ -0,0 +1,55 @@
+package com.hangman.domain;
+
+/**
+ * Maps the letters a game can be played with to bit indexes.
+ * A-Z use bits 0-25, followed by Ä, Ö, Ü and ß.
+ */
+public final class Alphabet {
+
+    public static final int SIZE = 30;
+
+    private static final char[] LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZÄÖÜß".toCharArray();
+    private static final int AE = 26;
+    private static final int OE = 27;
+    private static final int UE = 28;
+    private static final int SZ = 29;
+
+    private Alphabet() {
+    }
+
+    /**
+     * @param letter an upper case letter
+     * @return the bit index of the letter, or -1 if it is not part of the alphabet
+     */
+    public static int indexOf(char letter) {
+        if (letter >= 'A' && letter <= 'Z') {
+            return letter - 'A';
+        }
+        switch (letter) {
+            case 'Ä': return AE;
+            case 'Ö': return OE;
+            case 'Ü': return UE;
+            case 'ß': return SZ;
+            default: return -1;
+        }
+    }
+
+    public static char letterAt(int index) {
+        return LETTERS[index];
+    }
+
+    /**
+     * @return the index of the umlaut equivalent (A/Ä, O/Ö, U/Ü), or -1 if there is none
+     */
+    public static int equivalentOf(int index) {
+        switch (index) {
+            case 'A' - 'A': return AE;
+            case 'O' - 'A': return OE;
+            case 'U' - 'A': return UE;
+            case AE: return 'A' - 'A';
+            case OE: return 'O' - 'A';
+            case UE: return 'U' - 'A';
+            default: return -1;
+        }
+    }
+}
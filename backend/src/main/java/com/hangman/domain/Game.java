@@ -1,18 +1,26 @@
 package com.hangman.domain;
 
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
-import java.util.UUID;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
 @Table(name = "games")
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Game {
     
+    /** Revealed positions are tracked in a long, one bit per character */
+    public static final int MAX_WORD_LENGTH = Long.SIZE;
+    
+    /** Guessed letters outside the {@link Alphabet} that are remembered, more only count as a miss */
+    public static final int MAX_OTHER_GUESSES = 64;
+    
     @Id
     @Column(name = "game_id")
     private String id;
@@ -20,14 +28,20 @@ public class Game {
     @Column(name = "word", nullable = false)
     private String word;
     
-    @Column(name = "masked_word", nullable = false)
-    private String maskedWord;
-    
     @Column(name = "failed_attempts", nullable = false)
     private int failedAttempts;
     
-    @Column(name = "guessed_letters", nullable = false)
-    private String guessedLetters; // Comma-separated letters
+    @Column(name = "guessed_mask", nullable = false)
+    private int guessedMask; // One bit per Alphabet index
+    
+    @Column(name = "other_guesses", nullable = false, length = MAX_OTHER_GUESSES)
+    private String otherGuesses = ""; // Guessed letters outside the Alphabet, in guess order
+    
+    @Column(name = "revealed_mask", nullable = false)
+    private long revealedMask; // One bit per word position
+    
+    @Column(name = "remaining_letters", nullable = false)
+    private int remainingLetters;
     
     @Column(name = "game_status", nullable = false)
     @Enumerated(EnumType.STRING)
@@ -36,128 +50,211 @@ public class Game {
     @Column(name = "max_attempts", nullable = false)
     private int maxAttempts = 6;
     
+    @Column(name = "last_activity", nullable = false)
+    private long lastActivity; // Epoch millis of creation or the latest guess
+    
+    @Column(name = "state_version", nullable = false)
+    private long version; // Incremented whenever the visible state changes, used as ETag
+    
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private WordEntry entry; // Compiled lazily for games loaded from persistence
+    
     public Game(String word) {
-        this.id = UUID.randomUUID().toString();
-        this.word = word.toUpperCase();
-        this.maskedWord = maskWord(word);
+        this(WordEntry.compile(word));
+    }
+    
+    public Game(WordEntry entry) {
+        this(entry, GameIds.randomShard());
+    }
+    
+    /**
+     * @param entry the compiled word
+     * @param shard the shard encoded into the game's ID, see {@link GameIds}
+     */
+    public Game(WordEntry entry, int shard) {
+        this.id = GameIds.newId(shard);
+        this.entry = entry;
+        this.word = entry.getWord();
         this.failedAttempts = 0;
-        this.guessedLetters = "";
+        this.guessedMask = 0;
         this.status = GameStatus.ACTIVE;
         this.maxAttempts = 6;
+        this.lastActivity = System.currentTimeMillis();
+        
+        // Characters that cannot be guessed (spaces, hyphens, ...) are visible from the start
+        this.revealedMask = ~entry.getLetterPositions() & lengthMask(word.length());
+        this.remainingLetters = entry.getLetterCount();
     }
     
     /**
-     * Processes a guess letter and updates game state
+     * Processes a guess letter and updates game state.
+     * Letters outside the {@link Alphabet}, e.g. É, never occur in a word's guessable positions, so
+     * they count as a miss. They have no guessed bit and are remembered in {@code otherGuesses}
+     * instead, so guessing one again costs nothing, like any other repeated letter.
      */
     public GameGuessResult guess(char letter) {
         letter = Character.toUpperCase(letter);
+        int index = Alphabet.indexOf(letter);
+        lastActivity = System.currentTimeMillis();
+        if (index < 0) {
+            return otherGuess(letter);
+        }
         
         // Check if letter was already guessed
-        if (guessedLetters.contains(String.valueOf(letter))) {
-            return new GameGuessResult(false, false, "Letter already guessed");
+        int letterBit = 1 << index;
+        if ((guessedMask & letterBit) != 0) {
+            return new GameGuessResult(false, false, "Letter already guessed", true);
         }
         
         // Add letter to guessed letters
-        guessedLetters = guessedLetters.isEmpty() 
-            ? String.valueOf(letter) 
-            : guessedLetters + "," + letter;
+        guessedMask |= letterBit;
+        version++;
         
         // Check if letter or equivalent is in word
-        if (checkLetterOrAequivalent(letter)) {
-            // Update masked word
-            maskedWord = maskLetterOrAequivalent(letter);
+        long hits = entry().positionsOf(index);
+        if (hits != 0) {
+            // Reveal positions and count down the letters still hidden
+            remainingLetters -= Long.bitCount(hits & ~revealedMask);
+            revealedMask |= hits;
             
             // Check if won
-            if (maskedWord.replace(" ", "").equals(word)) {
+            if (remainingLetters == 0) {
                 status = GameStatus.WON;
                 return new GameGuessResult(true, true, "Correct! You won!");
             }
             
             return new GameGuessResult(true, false, "Correct guess!");
         } else {
-            // Wrong guess
-            failedAttempts++;
-            
-            // Check if lost
-            if (failedAttempts >= maxAttempts) {
-                status = GameStatus.LOST;
-                maskedWord = word; // Reveal word when lost
-                return new GameGuessResult(false, true, "Game over! You lost!");
-            }
-            
-            return new GameGuessResult(false, false, "Wrong guess. Try again!");
+            return miss();
         }
     }
     
-    /**
-     * Checks if letter or its umlaut equivalent is in the word
-     */
-    private boolean checkLetterOrAequivalent(char letter) {
-        String letterStr = String.valueOf(letter);
-        if (word.contains(letterStr)) {
-            return true;
+    private GameGuessResult otherGuess(char letter) {
+        if (otherGuesses.indexOf(letter) >= 0) {
+            return new GameGuessResult(false, false, "Letter already guessed", true);
+        }
+        if (otherGuesses.length() < MAX_OTHER_GUESSES) {
+            otherGuesses += letter;
         }
+        version++;
+        return miss();
+    }
+    
+    private GameGuessResult miss() {
+        failedAttempts++;
         
-        // Check umlaut equivalents
-        switch (letter) {
-            case 'A': return word.contains("Ä");
-            case 'Ä': return word.contains("A");
-            case 'O': return word.contains("Ö");
-            case 'Ö': return word.contains("O");
-            case 'U': return word.contains("Ü");
-            case 'Ü': return word.contains("U");
-            default: return false;
+        // Check if lost
+        if (failedAttempts >= maxAttempts) {
+            status = GameStatus.LOST;
+            return new GameGuessResult(false, true, "Game over! You lost!");
         }
+        
+        return new GameGuessResult(false, false, "Wrong guess. Try again!");
     }
     
     /**
-     * Updates masked word by revealing the letter and its umlaut equivalent
+     * Copies the current state into a detached game that later guesses do not change
      */
-    private String maskLetterOrAequivalent(char letter) {
-        StringBuilder result = new StringBuilder();
-        String[] chars = word.split("");
-        String[] masked = maskedWord.split(" ");
-        
-        for (int i = 0; i < chars.length; i++) {
-            char wordChar = chars[i].charAt(0);
-            if (isLetterMatch(wordChar, letter)) {
-                result.append(wordChar);
-            } else {
-                result.append(masked[i].isEmpty() ? "_" : masked[i]);
-            }
-            
-            if (i < chars.length - 1) {
-                result.append(" ");
-            }
+    public Game snapshot() {
+        Game copy = new Game();
+        copy.id = id;
+        copy.word = word;
+        copy.entry = entry;
+        copy.failedAttempts = failedAttempts;
+        copy.guessedMask = guessedMask;
+        copy.otherGuesses = otherGuesses;
+        copy.revealedMask = revealedMask;
+        copy.remainingLetters = remainingLetters;
+        copy.status = status;
+        copy.maxAttempts = maxAttempts;
+        copy.lastActivity = lastActivity;
+        copy.version = version;
+        return copy;
+    }
+    
+    /**
+     * Marks the game as used now, e.g. when a pre-built game is handed out
+     */
+    public void touch() {
+        lastActivity = System.currentTimeMillis();
+    }
+    
+    /**
+     * @param letter a guessed letter
+     * @return the revealed positions holding the letter or its umlaut equivalent, one bit per position;
+     *         none for a letter outside the alphabet
+     */
+    public long revealedPositionsOf(char letter) {
+        int index = Alphabet.indexOf(Character.toUpperCase(letter));
+        if (index < 0) {
+            return 0;
         }
-        
-        return result.toString();
+        return entry().positionsOf(index) & revealedMask;
+    }
+    
+    private WordEntry entry() {
+        if (entry == null) {
+            entry = WordEntry.compile(word);
+        }
+        return entry;
+    }
+    
+    public void setWord(String word) {
+        this.word = word;
+        this.entry = null;
+    }
+    
+    private static long lengthMask(int length) {
+        return length == MAX_WORD_LENGTH ? -1L : (1L << length) - 1;
     }
     
     /**
-     * Checks if two letters match or are umlaut equivalents
+     * Renders the word with underscores for hidden letters, separated by spaces.
+     * Lost games reveal the plain word.
      */
-    private boolean isLetterMatch(char wordChar, char guessedChar) {
-        wordChar = Character.toUpperCase(wordChar);
-        guessedChar = Character.toUpperCase(guessedChar);
-        
-        if (wordChar == guessedChar) {
-            return true;
+    public String getMaskedWord() {
+        if (status == GameStatus.LOST) {
+            return word;
         }
-        
-        return (wordChar == 'A' && guessedChar == 'Ä') ||
-               (wordChar == 'Ä' && guessedChar == 'A') ||
-               (wordChar == 'O' && guessedChar == 'Ö') ||
-               (wordChar == 'Ö' && guessedChar == 'O') ||
-               (wordChar == 'U' && guessedChar == 'Ü') ||
-               (wordChar == 'Ü' && guessedChar == 'U');
+        int length = word.length();
+        if (length == 0) {
+            return "";
+        }
+        char[] masked = new char[length * 2 - 1];
+        for (int i = 0; i < length; i++) {
+            masked[i * 2] = (revealedMask & (1L << i)) != 0 ? word.charAt(i) : '_';
+            if (i < length - 1) {
+                masked[i * 2 + 1] = ' ';
+            }
+        }
+        return new String(masked);
     }
     
     /**
-     * Masks the word with underscores, revealing guessed letters
+     * Renders the guessed letters comma-separated in alphabet order, followed by letters outside
+     * the alphabet in the order they were guessed
      */
-    private String maskWord(String word) {
-        return String.join(" ", word.split("")).replaceAll("\\p{L}", "_");
+    public String getGuessedLetters() {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < Alphabet.SIZE; i++) {
+            if ((guessedMask & (1 << i)) != 0) {
+                if (letters.length() > 0) {
+                    letters.append(',');
+                }
+                letters.append(Alphabet.letterAt(i));
+            }
+        }
+        for (int i = 0; i < otherGuesses.length(); i++) {
+            if (letters.length() > 0) {
+                letters.append(',');
+            }
+            letters.append(otherGuesses.charAt(i));
+        }
+        return letters.toString();
     }
     
     public boolean isGameOver() {
@@ -11,4 +11,9 @@ public class GameGuessResult {
     private boolean correct;
     private boolean gameOver;
     private String message;
+    private boolean repeated;
+    
+    public GameGuessResult(boolean correct, boolean gameOver, String message) {
+        this(correct, gameOver, message, false);
+    }
 }
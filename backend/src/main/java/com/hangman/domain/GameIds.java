@@ -0,0 +1,56 @@
+package com.hangman.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Game IDs are random UUIDs whose first three hex digits name the shard the game belongs to.
+ * They stay canonical UUIDs, so existing clients and the compact encoding handle them unchanged.
+ */
+public final class GameIds {
+    
+    public static final int SHARD_BITS = 12;
+    public static final int SHARDS = 1 << SHARD_BITS;
+    
+    private static final int SHARD_SHIFT = Long.SIZE - SHARD_BITS;
+    private static final int UUID_LENGTH = 36;
+    
+    private GameIds() {
+    }
+    
+    /**
+     * @param shard a shard between 0 and {@link #SHARDS} - 1
+     * @return a new random ID in the shard
+     */
+    public static String newId(int shard) {
+        if (shard < 0 || shard >= SHARDS) {
+            throw new IllegalArgumentException("Shard must be between 0 and " + (SHARDS - 1));
+        }
+        UUID random = UUID.randomUUID();
+        long mostSignificant = (random.getMostSignificantBits() & (-1L >>> SHARD_BITS)) | ((long) shard << SHARD_SHIFT);
+        return new UUID(mostSignificant, random.getLeastSignificantBits()).toString();
+    }
+    
+    /**
+     * @param gameId a game ID
+     * @return the shard of the game, or -1 if the ID is not in UUID form
+     */
+    public static int shardOf(String gameId) {
+        if (gameId == null || gameId.length() != UUID_LENGTH || gameId.charAt(8) != '-') {
+            return -1;
+        }
+        int shard = 0;
+        for (int i = 0; i < SHARD_BITS / 4; i++) {
+            int digit = Character.digit(gameId.charAt(i), 16);
+            if (digit < 0) {
+                return -1;
+            }
+            shard = shard << 4 | digit;
+        }
+        return shard;
+    }
+    
+    public static int randomShard() {
+        return ThreadLocalRandom.current().nextInt(SHARDS);
+    }
+}
@@ -0,0 +1,81 @@
+package com.hangman.domain;
+
+/**
+ * A word compiled for play: for every letter of the {@link Alphabet} the positions it
+ * occupies, with Ä/A, Ö/O and Ü/U already folded together.
+ * Entries are immutable and shared by all games playing the same word.
+ */
+public final class WordEntry {
+
+    private final String word;
+    private final long[] positions = new long[Alphabet.SIZE];
+    private final long letterPositions;
+    private final int letterCount;
+
+    private WordEntry(String word) {
+        this.word = word;
+        long letters = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int index = Alphabet.indexOf(word.charAt(i));
+            if (index < 0) {
+                continue;
+            }
+            long bit = 1L << i;
+            letters |= bit;
+            positions[index] |= bit;
+            int equivalent = Alphabet.equivalentOf(index);
+            if (equivalent >= 0) {
+                positions[equivalent] |= bit;
+            }
+        }
+        this.letterPositions = letters;
+        this.letterCount = Long.bitCount(letters);
+    }
+
+    /**
+     * Compiles a word into an entry
+     * @param word the word, converted to upper case character by character, so ß stays one letter
+     * @return the compiled entry
+     * @throws IllegalArgumentException if the word is longer than {@link Game#MAX_WORD_LENGTH}
+     */
+    public static WordEntry compile(String word) {
+        if (word.length() > Game.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("Word must not be longer than " + Game.MAX_WORD_LENGTH + " characters");
+        }
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new WordEntry(new String(chars));
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * @param index an {@link Alphabet} index
+     * @return the positions matching the letter or its umlaut equivalent, one bit per position
+     */
+    public long positionsOf(int index) {
+        return positions[index];
+    }
+
+    /**
+     * @return the positions holding guessable letters
+     */
+    public long getLetterPositions() {
+        return letterPositions;
+    }
+
+    /**
+     * @return the number of guessable letters, i.e. the number of hits needed to win
+     */
+    public int getLetterCount() {
+        return letterCount;
+    }
+
+    public int length() {
+        return word.length();
+    }
+}
@@ -0,0 +1,14 @@
+package com.hangman.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchGuessRequest {
+    private List<GuessRequest> guesses;
+}
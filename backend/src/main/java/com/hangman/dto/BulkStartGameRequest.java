@@ -0,0 +1,13 @@
+package com.hangman.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStartGameRequest {
+    private int count;
+    private int maxAttempts;
+}
@@ -0,0 +1,53 @@
+package com.hangman.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hangman.domain.Game;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Changes made by one guess, for clients that already hold the game's state.
+ * Only the positions the guessed letter occupies are sent, with their characters;
+ * counters and status are left out unless the guess changed them.
+ * Frames pushed to subscribers also carry the letter, since their guess was not necessarily the client's own.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GameDelta {
+    private long version;
+    private long revealedMask; // Positions of the guessed letter, one bit per position
+    private String revealed; // Characters at those positions, in position order
+    private Integer failedAttempts; // Only after a miss
+    private String status; // Only once the game is over
+    private String word; // Only once the game is lost
+    private String letter; // Only in pushed frames; not part of the compact encoding
+    
+    public static GameDelta fromGuess(Game game, char letter) {
+        long mask = game.revealedPositionsOf(letter);
+        StringBuilder revealed = new StringBuilder(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            revealed.append(game.getWord().charAt(Long.numberOfTrailingZeros(bits)));
+        }
+        return new GameDelta(
+            game.getVersion(),
+            mask,
+            revealed.toString(),
+            mask == 0 ? game.getFailedAttempts() : null,
+            game.isGameOver() ? game.getStatus().toString() : null,
+            game.getStatus() == Game.GameStatus.LOST ? game.getWord() : null,
+            null
+        );
+    }
+    
+    /**
+     * @return the changes of the guess together with the guessed letter, for pushing to subscribers
+     */
+    public static GameDelta pushed(Game game, char letter) {
+        GameDelta delta = fromGuess(game, letter);
+        delta.setLetter(String.valueOf(Character.toUpperCase(letter)));
+        return delta;
+    }
+}
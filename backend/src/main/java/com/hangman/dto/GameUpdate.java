@@ -0,0 +1,41 @@
+package com.hangman.dto;
+
+import com.hangman.domain.Game;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full game state pushed to a subscriber when it subscribes; guesses after that are pushed as
+ * {@link GameDelta}s. Error frames only carry the id and a message.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameUpdate {
+    private String id;
+    private long version;
+    private String maskedWord;
+    private String guessedLetters;
+    private int failedAttempts;
+    private int maxAttempts;
+    private String status;
+    private String message;
+    
+    public static GameUpdate fromGame(Game game) {
+        return new GameUpdate(
+            game.getId(),
+            game.getVersion(),
+            game.getMaskedWord(),
+            game.getGuessedLetters(),
+            game.getFailedAttempts(),
+            game.getMaxAttempts(),
+            game.getStatus().toString(),
+            ""
+        );
+    }
+    
+    public static GameUpdate error(String gameId, String message) {
+        return new GameUpdate(gameId, 0, null, null, 0, 0, null, message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.hangman.dto;
+
+import com.hangman.service.LetterHint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HintResponse {
+    private String id;
+    private String letter; // Null if there is nothing to suggest
+    private int candidates; // Dictionary words that fit the game so far
+    private double hitProbability; // Share of the candidates containing the letter
+    private String message;
+    
+    public static HintResponse fromHint(String gameId, LetterHint hint) {
+        String message = "";
+        if (hint.getLetter() == null) {
+            message = "No letter to suggest";
+        } else if (hint.getCandidates() == 0) {
+            message = "No dictionary word fits, letter chosen among all words of this length";
+        }
+        return new HintResponse(
+            gameId,
+            hint.getLetter() != null ? String.valueOf(hint.getLetter()) : null,
+            hint.getCandidates(),
+            hint.getHitProbability(),
+            message
+        );
+    }
+}
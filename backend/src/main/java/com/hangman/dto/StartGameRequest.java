@@ -9,4 +9,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class StartGameRequest {
     private int maxAttempts;
-}
\ No newline at end of file
+    private String playerId;  // Optional: no word repeats for this player until all were played
+    private String category;  // Optional word filters
+    private int minLength;
+    private int maxLength;
+    
+    public StartGameRequest(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
@@ -0,0 +1,55 @@
+package com.hangman.dto;
+
+import com.hangman.stats.GameCounts;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatsResponse {
+    private long gamesStarted;
+    private long gamesWon;
+    private long gamesLost;
+    private double winRate; // Share of the finished games that were won
+    private double averageFailedAttempts; // Per finished game
+    private List<WordLengthStats> byWordLength;
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WordLengthStats {
+        private int wordLength;
+        private long gamesStarted;
+        private long gamesWon;
+        private long gamesLost;
+        private double winRate;
+        private double averageFailedAttempts;
+        
+        public static WordLengthStats fromCounts(GameCounts counts) {
+            return new WordLengthStats(
+                counts.getWordLength(),
+                counts.getStarted(),
+                counts.getWon(),
+                counts.getLost(),
+                counts.getWinRate(),
+                counts.getAverageFailedAttempts()
+            );
+        }
+    }
+    
+    public static StatsResponse fromCounts(List<GameCounts> byWordLength) {
+        GameCounts total = GameCounts.total(byWordLength);
+        return new StatsResponse(
+            total.getStarted(),
+            total.getWon(),
+            total.getLost(),
+            total.getWinRate(),
+            total.getAverageFailedAttempts(),
+            byWordLength.stream().map(WordLengthStats::fromCounts).toList()
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.hangman.event;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+
+/**
+ * Callback for game lifecycle events.
+ * Events of one game are delivered in order. {@link #guessApplied} and {@link #gameFinished} are
+ * delivered while the game's lock is held, so implementations must return quickly and must not block.
+ * {@link #gameCreated} is delivered without the lock, once the game is stored and before its ID
+ * is returned to the client.
+ */
+public interface GameEventListener {
+
+    default void gameCreated(Game game) {
+    }
+
+    default void guessApplied(Game game, char letter, GameGuessResult result) {
+    }
+
+    default void gameFinished(Game game) {
+    }
+}
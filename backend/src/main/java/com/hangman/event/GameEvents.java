@@ -0,0 +1,53 @@
+package com.hangman.event;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Dispatches game events to every registered {@link GameEventListener}.
+ * A failing listener is logged and never fails the request that raised the event.
+ */
+@Component
+@Slf4j
+public class GameEvents {
+
+    private final GameEventListener[] listeners;
+
+    public GameEvents(List<GameEventListener> listeners) {
+        this.listeners = listeners.toArray(new GameEventListener[0]);
+    }
+
+    public static GameEvents none() {
+        return new GameEvents(List.of());
+    }
+
+    public void gameCreated(Game game) {
+        for (GameEventListener listener : listeners) {
+            try {
+                listener.gameCreated(game);
+            } catch (RuntimeException e) {
+                log.warn("Listener {} failed on game created", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Reports an applied guess, followed by {@link GameEventListener#gameFinished} if it ended the game
+     */
+    public void guessApplied(Game game, char letter, GameGuessResult result) {
+        for (GameEventListener listener : listeners) {
+            try {
+                listener.guessApplied(game, letter, result);
+                if (result.isGameOver()) {
+                    listener.gameFinished(game);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Listener {} failed on guess applied", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.hangman.journal;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import com.hangman.event.GameEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Structured, binary journal of game events (created, guess applied, finished).
+ * <p>
+ * Request threads encode events into a {@link JournalRingBuffer} without allocating or blocking;
+ * a single writer thread copies them into memory-mapped segment files. If the ring is full the
+ * event is dropped and counted in {@code hangman.journal.dropped}. Segments can be replayed with
+ * {@link GameJournalReader}; only the newest {@code hangman.journal.max-segments} are kept.
+ * <p>
+ * Record layout: {@code int length, byte type, long timestamp, string gameId, payload}, where a
+ * string is a {@code short} char count followed by UTF-16 chars.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "hangman.journal.enabled", havingValue = "true", matchIfMissing = true)
+public class GameJournal implements GameEventListener {
+    
+    static final int SLOT_SIZE = 256;
+    
+    private static final byte GAME_CREATED = 1;
+    private static final byte GUESS_APPLIED = 2;
+    private static final byte GAME_FINISHED = 3;
+    
+    private final JournalRingBuffer ring;
+    private final JournalSegmentWriter writer;
+    private final Counter dropped;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    
+    public GameJournal(@Value("${hangman.journal.directory:data/journal}") Path directory,
+                       @Value("${hangman.journal.segment-size:67108864}") int segmentSize,
+                       @Value("${hangman.journal.ring-size:8192}") int ringSize,
+                       @Value("${hangman.journal.max-segments:16}") int maxSegments,
+                       MeterRegistry registry) throws IOException {
+        this.ring = new JournalRingBuffer(ringSize, SLOT_SIZE);
+        this.writer = new JournalSegmentWriter(directory, segmentSize, maxSegments);
+        this.dropped = Counter.builder("hangman.journal.dropped")
+            .description("Journal events dropped because the ring buffer was full")
+            .register(registry);
+        this.writerThread = new Thread(this::drain, "game-journal-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("Game journal writing to {}", directory.toAbsolutePath());
+    }
+    
+    @Override
+    public void gameCreated(Game game) {
+        long sequence = ring.tryClaim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ByteBuffer slot = ring.slot(sequence);
+        try {
+            header(slot, GAME_CREATED, game);
+            putString(slot, game.getWord());
+            slot.put((byte) Math.min(game.getMaxAttempts(), Byte.MAX_VALUE));
+            finish(slot);
+        } catch (BufferOverflowException e) {
+            discard(slot);
+        } finally {
+            ring.publish(sequence);
+        }
+    }
+    
+    @Override
+    public void guessApplied(Game game, char letter, GameGuessResult result) {
+        long sequence = ring.tryClaim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ByteBuffer slot = ring.slot(sequence);
+        try {
+            header(slot, GUESS_APPLIED, game);
+            slot.putChar(Character.toUpperCase(letter));
+            slot.put((byte) ((result.isCorrect() ? 1 : 0) | (result.isRepeated() ? 2 : 0)));
+            slot.putShort((short) game.getFailedAttempts());
+            finish(slot);
+        } catch (BufferOverflowException e) {
+            discard(slot);
+        } finally {
+            ring.publish(sequence);
+        }
+    }
+    
+    @Override
+    public void gameFinished(Game game) {
+        long sequence = ring.tryClaim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        ByteBuffer slot = ring.slot(sequence);
+        try {
+            header(slot, GAME_FINISHED, game);
+            slot.put((byte) game.getStatus().ordinal());
+            slot.putShort((short) game.getFailedAttempts());
+            finish(slot);
+        } catch (BufferOverflowException e) {
+            discard(slot);
+        } finally {
+            ring.publish(sequence);
+        }
+    }
+    
+    @PreDestroy
+    public void close() throws InterruptedException, IOException {
+        running = false;
+        writerThread.join(5000);
+        writer.close();
+    }
+    
+    /**
+     * Decodes a record without its length prefix
+     */
+    static JournalRecord decode(ByteBuffer buffer) {
+        JournalRecord record = new JournalRecord();
+        byte type = buffer.get();
+        record.setTimestamp(buffer.getLong());
+        record.setGameId(getString(buffer));
+        switch (type) {
+            case GAME_CREATED:
+                record.setType(JournalRecord.Type.GAME_CREATED);
+                record.setWord(getString(buffer));
+                record.setMaxAttempts(buffer.get());
+                break;
+            case GUESS_APPLIED:
+                record.setType(JournalRecord.Type.GUESS_APPLIED);
+                record.setLetter(buffer.getChar());
+                byte flags = buffer.get();
+                record.setCorrect((flags & 1) != 0);
+                record.setRepeated((flags & 2) != 0);
+                record.setFailedAttempts(buffer.getShort());
+                break;
+            case GAME_FINISHED:
+                record.setType(JournalRecord.Type.GAME_FINISHED);
+                record.setStatus(Game.GameStatus.values()[buffer.get()].name());
+                record.setFailedAttempts(buffer.getShort());
+                break;
+            default:
+                throw new IllegalStateException("Unknown journal record type " + type);
+        }
+        return record;
+    }
+    
+    private void drain() {
+        while (running || !ring.isEmpty()) {
+            ByteBuffer record = ring.peek();
+            if (record == null) {
+                LockSupport.parkNanos(1_000_000);
+                continue;
+            }
+            try {
+                if (record.hasRemaining()) {
+                    writer.append(record);
+                }
+            } catch (IOException e) {
+                log.error("Writing game journal failed, dropping event", e);
+                dropped.increment();
+            } finally {
+                ring.release();
+            }
+        }
+    }
+    
+    private static void header(ByteBuffer slot, byte type, Game game) {
+        slot.putInt(0); // length, filled in by finish
+        slot.put(type);
+        slot.putLong(System.currentTimeMillis());
+        putString(slot, game.getId());
+    }
+    
+    private static void finish(ByteBuffer slot) {
+        slot.putInt(0, slot.position() - Integer.BYTES);
+    }
+    
+    /**
+     * Leaves an empty slot behind; the writer skips it
+     */
+    private void discard(ByteBuffer slot) {
+        slot.clear();
+        dropped.increment();
+    }
+    
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.putShort((short) value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putChar(value.charAt(i));
+        }
+    }
+    
+    private static String getString(ByteBuffer buffer) {
+        char[] chars = new char[buffer.getShort()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,49 @@
+package com.hangman.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Replays journal segments written by {@link GameJournal}.
+ */
+public final class GameJournalReader {
+    
+    private GameJournalReader() {
+    }
+    
+    /**
+     * Reads every segment in a directory in the order they were written
+     * @param directory the journal directory
+     * @param consumer receives each record
+     */
+    public static void readAll(Path directory, Consumer<JournalRecord> consumer) throws IOException {
+        for (Path segment : JournalSegmentWriter.segments(directory)) {
+            read(segment, consumer);
+        }
+    }
+    
+    /**
+     * Reads one segment
+     * @param segment the segment file
+     * @param consumer receives each record
+     */
+    public static void read(Path segment, Consumer<JournalRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            while (buffer.remaining() >= Integer.BYTES) {
+                int length = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    break; // end of data
+                }
+                ByteBuffer record = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+                consumer.accept(GameJournal.decode(record));
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.hangman.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One decoded journal entry. Fields that do not apply to the record's type are left at their defaults.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JournalRecord {
+    
+    public enum Type {
+        GAME_CREATED, GUESS_APPLIED, GAME_FINISHED
+    }
+    
+    private Type type;
+    private long timestamp;
+    private String gameId;
+    private String word;         // GAME_CREATED
+    private int maxAttempts;     // GAME_CREATED
+    private char letter;         // GUESS_APPLIED
+    private boolean correct;     // GUESS_APPLIED
+    private boolean repeated;    // GUESS_APPLIED
+    private int failedAttempts;  // GUESS_APPLIED, GAME_FINISHED
+    private String status;       // GAME_FINISHED
+}
@@ -0,0 +1,91 @@
+package com.hangman.journal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated record slots.
+ * <p>
+ * A producer claims a sequence, encodes its record straight into the slot and publishes it;
+ * nothing is allocated per record. When the ring is full, {@link #tryClaim()} fails instead of
+ * blocking, so a slow disk can never stall a request thread.
+ */
+final class JournalRingBuffer {
+
+    private final ByteBuffer[] slots;
+    private final AtomicLongArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final int mask;
+    private volatile long consumed;
+
+    /**
+     * @param capacity number of slots, rounded up to the next power of two
+     * @param slotSize maximum encoded size of one record
+     */
+    JournalRingBuffer(int capacity, int slotSize) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.slots = new ByteBuffer[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            slots[i] = ByteBuffer.allocate(slotSize);
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * @return the claimed sequence, or -1 if the ring is full
+     */
+    long tryClaim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= slots.length) {
+                return -1;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    /**
+     * @return the cleared slot of a claimed sequence, to encode a record into
+     */
+    ByteBuffer slot(long sequence) {
+        ByteBuffer slot = slots[(int) sequence & mask];
+        slot.clear();
+        return slot;
+    }
+
+    /**
+     * Hands a claimed slot to the consumer. Must be called even if encoding failed.
+     */
+    void publish(long sequence) {
+        published.lazySet((int) sequence & mask, sequence);
+    }
+
+    /**
+     * @return the next published record, flipped for reading, or null if there is none yet
+     */
+    ByteBuffer peek() {
+        long sequence = consumed;
+        int index = (int) sequence & mask;
+        if (published.get(index) != sequence) {
+            return null;
+        }
+        ByteBuffer slot = slots[index];
+        slot.flip();
+        return slot;
+    }
+
+    /**
+     * Releases the record returned by {@link #peek()} so its slot can be claimed again
+     */
+    void release() {
+        consumed = consumed + 1;
+    }
+
+    boolean isEmpty() {
+        return consumed == claimed.get();
+    }
+}
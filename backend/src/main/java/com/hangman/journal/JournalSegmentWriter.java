@@ -0,0 +1,214 @@
+package com.hangman.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Appends records to memory-mapped, fixed-size segment files.
+ * The unused tail of a segment stays zero, which readers take as the end of the data.
+ * <p>
+ * On startup the newest segment is reopened and appended to, so restarts do not leave a mostly
+ * empty segment behind each. The segment being written is locked, so another journal on the same
+ * directory starts its own segment instead. Whenever a new segment is started, the oldest ones
+ * beyond the retention limit are deleted.
+ * Not thread-safe; only the journal's writer thread uses it.
+ */
+@Slf4j
+final class JournalSegmentWriter implements Closeable {
+
+    static final String PREFIX = "journal-";
+    static final String SUFFIX = ".bin";
+
+    /** Start times handed out in this JVM, kept distinct so journals started together never share names */
+    private static final AtomicLong LAST_START = new AtomicLong();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final String processTag;
+    private int segmentNumber;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+
+    /**
+     * @param maxSegments segments kept in the directory, including the one being written
+     */
+    JournalSegmentWriter(Path directory, int segmentSize, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        long start = LAST_START.accumulateAndGet(System.currentTimeMillis(), (last, now) -> Math.max(last + 1, now));
+        this.processTag = start + "-" + ProcessHandle.current().pid();
+        Files.createDirectories(directory);
+        reopenTail();
+    }
+
+    void append(ByteBuffer record) throws IOException {
+        // Keep four zero bytes behind every record as the end marker
+        if (segment == null || segment.remaining() < record.remaining() + Integer.BYTES) {
+            roll();
+        }
+        segment.put(record);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (segment != null) {
+            segment.force();
+            channel.close(); // Releases the lock
+            segment = null;
+        }
+    }
+
+    /**
+     * Lists the segment files of a directory in the order they were written.
+     * Files that only look like segments, e.g. {@code journal-backup.bin}, are skipped with a warning.
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> {
+                    String name = file.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .filter(file -> {
+                    if (segmentKey(file) == null) {
+                        log.warn("Ignoring {}, not named like a journal segment", file);
+                        return false;
+                    }
+                    return true;
+                })
+                .sorted(JournalSegmentWriter::compareSegments)
+                .toList();
+        }
+    }
+
+    private void roll() throws IOException {
+        close();
+        Path file = directory.resolve(PREFIX + processTag + "-" + (segmentNumber++) + SUFFIX);
+        FileChannel created = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        tryLock(created);
+        map(created, segmentSize);
+        deleteExpiredSegments();
+    }
+
+    /**
+     * Continues the newest segment after its last record, unless another journal holds it
+     */
+    private void reopenTail() throws IOException {
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            return;
+        }
+        Path tail = segments.get(segments.size() - 1);
+        FileChannel reopened = FileChannel.open(tail, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileLock tailLock = tryLock(reopened);
+        if (tailLock == null || reopened.size() < Integer.BYTES || reopened.size() > Integer.MAX_VALUE) {
+            reopened.close();
+            return;
+        }
+        map(reopened, (int) reopened.size());
+        skipRecords(segment);
+        // A record torn by a crash may follow the last complete one; zero it so it is not read as data
+        int torn = Math.min(segment.remaining(), GameJournal.SLOT_SIZE + Integer.BYTES);
+        segment.put(segment.position(), new byte[torn]);
+        log.debug("Appending to journal segment {} at offset {}", tail.getFileName(), segment.position());
+    }
+
+    private void map(FileChannel opened, int size) throws IOException {
+        channel = opened;
+        segment = opened.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    /**
+     * Advances the buffer to the end marker, reading records the way {@link GameJournalReader} does
+     */
+    private static void skipRecords(ByteBuffer buffer) {
+        while (buffer.remaining() >= Integer.BYTES) {
+            int length = buffer.getInt(buffer.position());
+            if (length <= 0 || length > buffer.remaining() - Integer.BYTES) {
+                return;
+            }
+            buffer.position(buffer.position() + Integer.BYTES + length);
+        }
+    }
+
+    /**
+     * Deletes the oldest segments beyond the retention limit, skipping any another journal still writes
+     */
+    private void deleteExpiredSegments() throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Path expired = segments.get(i);
+            try (FileChannel expiredChannel = FileChannel.open(expired, StandardOpenOption.WRITE)) {
+                if (tryLock(expiredChannel) == null) {
+                    continue;
+                }
+            } catch (IOException e) {
+                log.warn("Cannot delete journal segment {}", expired, e);
+                continue;
+            }
+            Files.deleteIfExists(expired);
+            log.debug("Deleted journal segment {}", expired.getFileName());
+        }
+    }
+
+    /**
+     * @return the lock, or null if another channel, in this or another process, holds one
+     */
+    private static FileLock tryLock(FileChannel target) throws IOException {
+        try {
+            return target.tryLock();
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Orders journal-&lt;startMillis&gt;-&lt;pid&gt;-&lt;n&gt;.bin by start time, then segment number.
+     * Only called for names {@link #segmentKey} accepts.
+     */
+    private static int compareSegments(Path a, Path b) {
+        long[] left = segmentKey(a);
+        long[] right = segmentKey(b);
+        for (int i = 0; i < left.length; i++) {
+            int result = Long.compare(left[i], right[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @return start millis, pid and segment number, or null if the name does not have that form
+     */
+    private static long[] segmentKey(Path segment) {
+        String name = segment.getFileName().toString();
+        if (name.length() < PREFIX.length() + SUFFIX.length()) {
+            return null;
+        }
+        String[] parts = name.substring(PREFIX.length(), name.length() - SUFFIX.length()).split("-");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new long[] {Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
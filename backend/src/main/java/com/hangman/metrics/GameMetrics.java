@@ -0,0 +1,146 @@
+package com.hangman.metrics;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micrometer instrumentation of the game hot paths.
+ * <ul>
+ *   <li>{@code hangman.operation.stage}: latency histogram per operation and stage
+ *       (repository, domain, serialization)</li>
+ *   <li>{@code hangman.guesses}: guesses by outcome (hit, miss, repeat)</li>
+ *   <li>{@code hangman.games.started} and {@code hangman.games.finished} by status</li>
+ *   <li>{@code hangman.games.active}: games started but not yet won or lost</li>
+ *   <li>{@code hangman.games.evicted}: games deleted by the expiry sweeper, by reason (idle, finished)</li>
+ * </ul>
+ * All meters are registered up front so recording never looks a meter up.
+ */
+@Component
+public class GameMetrics {
+    
+    public enum Operation {
+        START_NEW_GAME("startNewGame"), GUESS("guess"), GET_GAME("getGame"), HINT("hint");
+        
+        private final String tag;
+        
+        Operation(String tag) {
+            this.tag = tag;
+        }
+    }
+    
+    public enum Stage {
+        REPOSITORY, DOMAIN, SERIALIZATION
+    }
+    
+    private final Timer[][] stageTimers = new Timer[Operation.values().length][Stage.values().length];
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter repeats;
+    private final Counter started;
+    private final Counter won;
+    private final Counter lost;
+    private final Counter evictedIdle;
+    private final Counter evictedFinished;
+    private final AtomicLong active = new AtomicLong();
+    
+    public GameMetrics(MeterRegistry registry) {
+        for (Operation operation : Operation.values()) {
+            for (Stage stage : Stage.values()) {
+                stageTimers[operation.ordinal()][stage.ordinal()] = Timer.builder("hangman.operation.stage")
+                    .description("Time spent per stage of a game operation")
+                    .tag("operation", operation.tag)
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .register(registry);
+            }
+        }
+        hits = guessCounter(registry, "hit");
+        misses = guessCounter(registry, "miss");
+        repeats = guessCounter(registry, "repeat");
+        started = Counter.builder("hangman.games.started").register(registry);
+        won = finishedCounter(registry, "won");
+        lost = finishedCounter(registry, "lost");
+        evictedIdle = evictedCounter(registry, "idle");
+        evictedFinished = evictedCounter(registry, "finished");
+        Gauge.builder("hangman.games.active", active, AtomicLong::get)
+            .description("Games started but not yet won or lost")
+            .register(registry);
+    }
+    
+    /**
+     * Records the time of one stage of an operation
+     * @param startNanos the {@link System#nanoTime()} at the start of the stage
+     * @return the current {@link System#nanoTime()}, to start the next stage with
+     */
+    public long recordStage(Operation operation, Stage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers[operation.ordinal()][stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+    
+    /**
+     * Records the time of a stage measured in several parts
+     * @param nanos the total time of the stage
+     */
+    public void recordStageDuration(Operation operation, Stage stage, long nanos) {
+        stageTimers[operation.ordinal()][stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    public void gamesStarted(int count) {
+        started.increment(count);
+        active.addAndGet(count);
+    }
+    
+    public void guessApplied(Game game, GameGuessResult result) {
+        if (result.isRepeated()) {
+            repeats.increment();
+        } else if (result.isCorrect()) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        if (result.isGameOver()) {
+            (game.getStatus() == Game.GameStatus.WON ? won : lost).increment();
+            active.decrementAndGet();
+        }
+    }
+    
+    public void gamesEvicted(int idle, int finished) {
+        evictedIdle.increment(idle);
+        evictedFinished.increment(finished);
+        if (idle > 0) {
+            // Abandoned games will never finish; games restored from a snapshot were never counted
+            active.updateAndGet(value -> Math.max(0, value - idle));
+        }
+    }
+    
+    private static Counter guessCounter(MeterRegistry registry, String outcome) {
+        return Counter.builder("hangman.guesses")
+            .description("Guesses by outcome")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+    
+    private static Counter evictedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("hangman.games.evicted")
+            .description("Games deleted after their time to live")
+            .tag("reason", reason)
+            .register(registry);
+    }
+    
+    private static Counter finishedCounter(MeterRegistry registry, String status) {
+        return Counter.builder("hangman.games.finished")
+            .description("Finished games by status")
+            .tag("status", status)
+            .register(registry);
+    }
+}
@@ -0,0 +1,142 @@
+package com.hangman.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameUpdate;
+import com.hangman.event.GameEventListener;
+import com.hangman.store.GameStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes the changes of a game to its subscribers whenever a guess is applied.
+ * <p>
+ * A new subscriber first gets the full state as a {@link GameUpdate}; every guess after that is
+ * pushed as a {@link GameDelta}, which only holds what the guess changed. A client that lost track
+ * resyncs by subscribing again.
+ * <p>
+ * Events arrive under the game's lock, so only the frame's fields are captured there, and only for
+ * games that have subscribers. Serializing and sending happen on a small set of sender threads;
+ * a game always maps to the same thread, so its frames go out in the order the guesses were applied
+ * and their versions never decrease. A subscriber whose connection is gone is dropped.
+ */
+@Component
+@Slf4j
+public class GamePublisher implements GameEventListener {
+    
+    private final GameStore gameStore;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Set<GameSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService[] senders;
+    
+    public GamePublisher(GameStore gameStore,
+                         ObjectMapper objectMapper,
+                         @Value("${hangman.push.sender-threads:2}") int senderThreads) {
+        this.gameStore = gameStore;
+        this.objectMapper = objectMapper;
+        this.senders = new ExecutorService[Math.max(1, senderThreads)];
+        for (int i = 0; i < senders.length; i++) {
+            String name = "game-push-" + i;
+            senders[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+    
+    /**
+     * Subscribes to a game and sends its current state as the first frame
+     * @param gameId the game ID
+     * @param subscriber the connection to push to
+     * @throws IllegalArgumentException if game not found
+     */
+    public void subscribe(String gameId, GameSubscriber subscriber) {
+        Game game = gameStore.findById(gameId)
+            .orElseThrow(() -> new IllegalArgumentException("Game not found with ID: " + gameId));
+        subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        // Taken under the lock after subscribing, so it is queued behind every update it already contains
+        GameUpdate initial = gameStore.withLock(gameId, () -> {
+            GameUpdate update = GameUpdate.fromGame(game);
+            sender(gameId).execute(() -> deliver(gameId, update, Set.of(subscriber)));
+            return update;
+        });
+        log.debug("Subscribed to game {} at version {}", gameId, initial.getVersion());
+    }
+    
+    public void unsubscribe(String gameId, GameSubscriber subscriber) {
+        subscribers.computeIfPresent(gameId, (id, set) -> set.remove(subscriber) && set.isEmpty() ? null : set);
+    }
+    
+    /**
+     * Sends a frame to one subscriber right away, outside the game's update order
+     * @return false if the connection is gone
+     */
+    public boolean sendDirect(GameSubscriber subscriber, GameUpdate update) {
+        String frame = serialize(update.getId(), update);
+        return frame != null && subscriber.send(frame);
+    }
+    
+    @Override
+    public void guessApplied(Game game, char letter, GameGuessResult result) {
+        if (!subscribers.containsKey(game.getId())) {
+            return;
+        }
+        GameDelta delta = GameDelta.pushed(game, letter);
+        sender(game.getId()).execute(() -> deliver(game.getId(), delta, subscribers.get(game.getId())));
+    }
+    
+    int subscriberCount(String gameId) {
+        Set<GameSubscriber> set = subscribers.get(gameId);
+        return set == null ? 0 : set.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService sender : senders) {
+            sender.shutdownNow();
+        }
+        subscribers.values().forEach(set -> set.forEach(GameSubscriber::close));
+        subscribers.clear();
+    }
+    
+    private ExecutorService sender(String gameId) {
+        return senders[(gameId.hashCode() & Integer.MAX_VALUE) % senders.length];
+    }
+    
+    private void deliver(String gameId, Object update, Set<GameSubscriber> targets) {
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        // Serialized once, however many subscribers watch the game
+        String frame = serialize(gameId, update);
+        if (frame == null) {
+            return;
+        }
+        for (GameSubscriber subscriber : targets) {
+            if (!subscriber.send(frame)) {
+                unsubscribe(gameId, subscriber);
+            }
+        }
+    }
+    
+    private String serialize(String gameId, Object update) {
+        try {
+            return objectMapper.writeValueAsString(update);
+        } catch (JsonProcessingException e) {
+            log.error("Cannot serialize update of game {}", gameId, e);
+            return null;
+        }
+    }
+}
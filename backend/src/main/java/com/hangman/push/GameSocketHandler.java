@@ -0,0 +1,113 @@
+package com.hangman.push;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.dto.GameUpdate;
+import com.hangman.dto.GuessRequest;
+import com.hangman.service.HangmanService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.net.URI;
+
+/**
+ * WebSocket endpoint {@code /ws/games/{id}}.
+ * <p>
+ * On connect the current state of the game is pushed, followed by a {@link GameUpdate} for every
+ * guess applied to it, whoever made it. The client guesses by sending {@code {"letter": "A"}};
+ * a rejected guess is answered with a frame that only carries the id and a message, sent to
+ * that client alone.
+ */
+@Component
+@Slf4j
+public class GameSocketHandler extends TextWebSocketHandler {
+    
+    private static final String GAME_ID = "gameId";
+    private static final String SUBSCRIBER = "subscriber";
+    private static final String EXPECTED_GUESS = "Expected {\"letter\": \"A\"}";
+    
+    private final HangmanService hangmanService;
+    private final GamePublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    
+    public GameSocketHandler(HangmanService hangmanService,
+                             GamePublisher publisher,
+                             ObjectMapper objectMapper,
+                             @Value("${hangman.push.send-time-limit-ms:5000}") int sendTimeLimitMs,
+                             @Value("${hangman.push.buffer-size-limit:65536}") int bufferSizeLimit) {
+        this.hangmanService = hangmanService;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+    }
+    
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String gameId = gameId(session.getUri());
+        GameSubscriber subscriber = new WebSocketGameSubscriber(session, sendTimeLimitMs, bufferSizeLimit);
+        session.getAttributes().put(GAME_ID, gameId);
+        session.getAttributes().put(SUBSCRIBER, subscriber);
+        try {
+            publisher.subscribe(gameId, subscriber);
+        } catch (IllegalArgumentException e) {
+            log.warn("WebSocket for unknown game: {}", gameId);
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Game not found"));
+        }
+    }
+    
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        String gameId = (String) session.getAttributes().get(GAME_ID);
+        GameSubscriber subscriber = (GameSubscriber) session.getAttributes().get(SUBSCRIBER);
+        if (gameId == null || gameId.isEmpty()) {
+            reply(subscriber, gameId, "Game ID is required");
+            return;
+        }
+        try {
+            GuessRequest guess = objectMapper.readValue(message.getPayload(), GuessRequest.class);
+            if (guess == null) {
+                // The JSON literal null
+                reply(subscriber, gameId, EXPECTED_GUESS);
+                return;
+            }
+            // The update itself reaches this client through the publisher, like every other subscriber
+            hangmanService.guess(gameId, guess.getLetter());
+        } catch (JsonProcessingException e) {
+            reply(subscriber, gameId, EXPECTED_GUESS);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid guess over WebSocket: {}", e.getMessage());
+            reply(subscriber, gameId, e.getMessage());
+        }
+    }
+    
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        String gameId = (String) session.getAttributes().get(GAME_ID);
+        GameSubscriber subscriber = (GameSubscriber) session.getAttributes().get(SUBSCRIBER);
+        if (gameId != null && subscriber != null) {
+            publisher.unsubscribe(gameId, subscriber);
+        }
+    }
+    
+    /**
+     * Answers a rejected frame to its sender alone; nothing to answer before the session is set up
+     */
+    private void reply(GameSubscriber subscriber, String gameId, String message) {
+        if (subscriber != null) {
+            publisher.sendDirect(subscriber, GameUpdate.error(gameId, message));
+        }
+    }
+    
+    static String gameId(URI uri) {
+        String path = uri == null ? "" : uri.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
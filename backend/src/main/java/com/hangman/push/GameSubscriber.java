@@ -0,0 +1,19 @@
+package com.hangman.push;
+
+/**
+ * One open push connection (WebSocket or Server-Sent Events) watching a game.
+ */
+public interface GameSubscriber {
+
+    /**
+     * Sends one JSON frame
+     * @param frame the serialized {@link com.hangman.dto.GameUpdate}
+     * @return false if the connection is gone and the subscriber should be dropped
+     */
+    boolean send(String frame);
+
+    /**
+     * Closes the connection, e.g. on shutdown
+     */
+    void close();
+}
@@ -0,0 +1,36 @@
+package com.hangman.push;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Pushes frames as Server-Sent Events named {@code game}.
+ */
+public class SseGameSubscriber implements GameSubscriber {
+    
+    private final SseEmitter emitter;
+    
+    public SseGameSubscriber(SseEmitter emitter) {
+        this.emitter = emitter;
+    }
+    
+    @Override
+    public boolean send(String frame) {
+        try {
+            // The emitter is not thread-safe across concurrent sends
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event().name("game").data(frame, MediaType.APPLICATION_JSON));
+            }
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+    
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
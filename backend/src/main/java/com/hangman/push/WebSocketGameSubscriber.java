@@ -0,0 +1,46 @@
+package com.hangman.push;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * Pushes frames over a WebSocket session. Concurrent sends are buffered by the decorator;
+ * a client that falls too far behind is disconnected instead of slowing down the sender.
+ */
+@Slf4j
+class WebSocketGameSubscriber implements GameSubscriber {
+    
+    private final WebSocketSession session;
+    
+    WebSocketGameSubscriber(WebSocketSession session, int sendTimeLimitMs, int bufferSizeLimit) {
+        this.session = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit);
+    }
+    
+    @Override
+    public boolean send(String frame) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        try {
+            session.sendMessage(new TextMessage(frame));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Dropping WebSocket subscriber {}: {}", session.getId(), e.getMessage());
+            return false;
+        }
+    }
+    
+    @Override
+    public void close() {
+        try {
+            session.close(CloseStatus.GOING_AWAY);
+        } catch (IOException e) {
+            log.debug("Closing WebSocket {} failed: {}", session.getId(), e.getMessage());
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.hangman.repository;
 
 import com.hangman.domain.Game;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface GameRepository extends JpaRepository<Game, String> {
     // JpaRepository provides basic CRUD operations:
     // save(Game), findById(String), findAll(), delete(Game), etc.
+    
+    @Query("select g.id from Game g where g.status = :status and g.lastActivity < :before")
+    List<String> findIdsWithStatus(@Param("status") Game.GameStatus status,
+                                   @Param("before") long before,
+                                   Pageable page);
+    
+    @Query("select g.id from Game g where g.status <> :status and g.lastActivity < :before")
+    List<String> findIdsWithoutStatus(@Param("status") Game.GameStatus status,
+                                      @Param("before") long before,
+                                      Pageable page);
 }
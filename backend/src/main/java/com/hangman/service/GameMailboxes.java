@@ -0,0 +1,161 @@
+package com.hangman.service;
+
+import com.hangman.domain.Game;
+import com.hangman.store.GameStore;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * One mailbox per game with a single logical writer.
+ * <p>
+ * A caller queues its command in the game's mailbox. If no other thread is draining the mailbox,
+ * the caller becomes the writer: it applies every queued command in arrival order under the game's
+ * lock and saves the game once for the whole run. Callers that arrive meanwhile just wait for
+ * their own result. Different games never share a mailbox, so they proceed fully in parallel.
+ * Mailboxes exist only while commands are queued.
+ */
+@Component
+public class GameMailboxes {
+    
+    private final GameStore gameStore;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    
+    public GameMailboxes(GameStore gameStore) {
+        this.gameStore = gameStore;
+    }
+    
+    /**
+     * Applies a command to a game on the game's single writer
+     * @param game the game
+     * @param command the command; its result must not be the live game, which other commands keep changing
+     * @return the command's result
+     * @throws RuntimeException whatever the command or the save threw
+     */
+    public <R> R submit(Game game, Function<Game, R> command) {
+        return submit(game, command, saveNanos -> { });
+    }
+    
+    /**
+     * Applies a command to a game on the game's single writer and reports how long the writer's save took
+     * @param game the game
+     * @param command the command; its result must not be the live game, which other commands keep changing
+     * @param saved called on the caller's thread with the nanoseconds of the save that covered the command,
+     *              which are shared by every command of the writer's run; not called if the command failed
+     * @return the command's result
+     * @throws RuntimeException whatever the command or the save threw
+     */
+    public <R> R submit(Game game, Function<Game, R> command, LongConsumer saved) {
+        Mailbox mailbox = mailboxes.computeIfAbsent(game.getId(), id -> new Mailbox());
+        Letter<R> letter = new Letter<>(command);
+        mailbox.queue.add(letter);
+        drain(game, mailbox);
+        try {
+            R result = letter.reply.join();
+            saved.accept(letter.saveNanos);
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+    
+    int size() {
+        return mailboxes.size();
+    }
+    
+    private void drain(Game game, Mailbox mailbox) {
+        // Whoever sets the flag drains; after releasing it, re-check for letters queued in between
+        while (!mailbox.queue.isEmpty() && mailbox.draining.compareAndSet(false, true)) {
+            try {
+                gameStore.withLock(game.getId(), () -> {
+                    deliver(game, mailbox.queue);
+                    return null;
+                });
+            } catch (Error e) {
+                // Nobody may be left waiting for a writer that is gone
+                Letter<?> letter;
+                while ((letter = mailbox.queue.poll()) != null) {
+                    letter.reply.completeExceptionally(e);
+                }
+                throw e;
+            } finally {
+                mailbox.draining.set(false);
+            }
+            if (mailbox.queue.isEmpty()) {
+                mailboxes.remove(game.getId(), mailbox);
+            }
+        }
+    }
+    
+    private void deliver(Game game, Queue<Letter<?>> queue) {
+        List<Letter<?>> applied = new ArrayList<>();
+        try {
+            Letter<?> letter;
+            while ((letter = queue.poll()) != null) {
+                if (letter.apply(game)) {
+                    applied.add(letter);
+                }
+            }
+            if (applied.isEmpty()) {
+                return;
+            }
+            long saveStart = System.nanoTime();
+            gameStore.save(game);
+            long saveNanos = System.nanoTime() - saveStart;
+            applied.forEach(sent -> sent.saveNanos = saveNanos);
+        } catch (RuntimeException | Error e) {
+            applied.forEach(letter -> letter.reply.completeExceptionally(e));
+            if (e instanceof Error error) {
+                throw error;
+            }
+            return;
+        }
+        applied.forEach(Letter::complete);
+    }
+    
+    private static final class Mailbox {
+        final Queue<Letter<?>> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean draining = new AtomicBoolean();
+    }
+    
+    private static final class Letter<R> {
+        final Function<Game, R> command;
+        final CompletableFuture<R> reply = new CompletableFuture<>();
+        R result;
+        long saveNanos; // Published to the caller by completing the reply
+    
+        Letter(Function<Game, R> command) {
+            this.command = command;
+        }
+    
+        /**
+         * @return true if the game changed and the reply waits for the save
+         */
+        boolean apply(Game game) {
+            try {
+                result = command.apply(game);
+                return true;
+            } catch (RuntimeException e) {
+                reply.completeExceptionally(e);
+                return false;
+            }
+        }
+    
+        void complete() {
+            reply.complete(result);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.hangman.service;
+
+import com.hangman.cluster.ClusterTopology;
+import com.hangman.domain.Game;
+import com.hangman.store.GamePersistence;
+import com.hangman.store.GameStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pool of pre-built, pre-persisted games, one queue per max attempts value.
+ * Taking a game is a queue poll; a background thread refills queues that drop below half.
+ * <p>
+ * Pooled games are persisted but not held in the {@link GameStore} until they are handed out, so
+ * the expiry sweeper asks {@link #holds} before deleting a stored game that memory does not know.
+ */
+@Component
+@Slf4j
+public class GamePool {
+    
+    /** Only this many distinct max attempts values get a queue, so clients cannot grow the pool without bound */
+    static final int MAX_BUCKETS = 16;
+    
+    private static final int PERSIST_CHUNK = 64;
+    
+    private final GameStore gameStore;
+    private final GamePersistence persistence;
+    private final WordProvider wordProvider;
+    private final ClusterTopology topology;
+    private final int size;
+    private final int warmMaxAttempts;
+    private final Map<Integer, BlockingQueue<Game>> buckets = new ConcurrentHashMap<>();
+    private final Set<String> pooledIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final ExecutorService refillExecutor;
+    
+    @Autowired
+    public GamePool(GameStore gameStore,
+                    GamePersistence persistence,
+                    WordProvider wordProvider,
+                    ClusterTopology topology,
+                    @Value("${hangman.pool.size:64}") int size,
+                    @Value("${hangman.pool.warm-max-attempts:15}") int warmMaxAttempts) {
+        this.gameStore = gameStore;
+        this.persistence = persistence;
+        this.wordProvider = wordProvider;
+        this.topology = topology;
+        this.size = size;
+        this.warmMaxAttempts = warmMaxAttempts;
+        this.refillExecutor = size > 0
+            ? Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-pool-refill");
+                thread.setDaemon(true);
+                return thread;
+            })
+            : null;
+    }
+    
+    /**
+     * Creates a pool that is disabled when size is 0
+     */
+    public GamePool(GameStore gameStore, GamePersistence persistence, WordProvider wordProvider, int size) {
+        this(gameStore, persistence, wordProvider, size, 15);
+    }
+    
+    /**
+     * Creates a standalone pool
+     */
+    public GamePool(GameStore gameStore, GamePersistence persistence, WordProvider wordProvider, int size, int warmMaxAttempts) {
+        this(gameStore, persistence, wordProvider, ClusterTopology.standalone(), size, warmMaxAttempts);
+    }
+    
+    @PostConstruct
+    public void warmUp() {
+        if (isEnabled() && warmMaxAttempts > 0) {
+            bucketFor(warmMaxAttempts);
+            scheduleRefill();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (refillExecutor != null) {
+            refillExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Hands out a pooled game and registers it in the store
+     * @param maxAttempts the maximum number of attempts the game must have
+     * @return a persisted game held in the store, or empty if none is ready
+     */
+    public Optional<Game> take(int maxAttempts) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        BlockingQueue<Game> bucket = bucketFor(maxAttempts);
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        Game game = bucket.poll();
+        if (bucket.size() < size / 2) {
+            scheduleRefill();
+        }
+        if (game != null) {
+            // Time spent waiting in the pool does not count towards the idle time to live
+            game.touch();
+            // Registered before it stops counting as pooled, so the sweeper always sees it in one place
+            gameStore.register(game);
+            pooledIds.remove(game.getId());
+        }
+        return Optional.ofNullable(game);
+    }
+    
+    /**
+     * @param gameId the game ID
+     * @return true if the game is persisted but still waiting in the pool, or about to be handed out
+     */
+    public boolean holds(String gameId) {
+        return pooledIds.contains(gameId);
+    }
+    
+    /**
+     * Tops up every queue to the pool size, persisting new games in chunks
+     */
+    public void refill() {
+        refillLock.lock();
+        try {
+            for (Map.Entry<Integer, BlockingQueue<Game>> bucket : buckets.entrySet()) {
+                BlockingQueue<Game> queue = bucket.getValue();
+                int missing;
+                while ((missing = Math.min(size - queue.size(), PERSIST_CHUNK)) > 0) {
+                    List<Game> games = new ArrayList<>(missing);
+                    for (int i = 0; i < missing; i++) {
+                        Game game = new Game(wordProvider.getRandomEntry(), topology.localShard());
+                        game.setMaxAttempts(bucket.getKey());
+                        games.add(game);
+                    }
+                    games.forEach(game -> pooledIds.add(game.getId()));
+                    try {
+                        persistence.storeAll(games);
+                    } catch (RuntimeException e) {
+                        games.forEach(game -> pooledIds.remove(game.getId()));
+                        throw e;
+                    }
+                    games.forEach(queue::offer);
+                }
+            }
+        } finally {
+            refillLock.unlock();
+        }
+    }
+    
+    public int available(int maxAttempts) {
+        BlockingQueue<Game> bucket = buckets.get(maxAttempts);
+        return bucket == null ? 0 : bucket.size();
+    }
+    
+    public boolean isEnabled() {
+        return size > 0;
+    }
+    
+    private BlockingQueue<Game> bucketFor(int maxAttempts) {
+        BlockingQueue<Game> bucket = buckets.get(maxAttempts);
+        if (bucket == null && buckets.size() < MAX_BUCKETS) {
+            bucket = buckets.computeIfAbsent(maxAttempts, key -> new ArrayBlockingQueue<>(size));
+        }
+        return bucket;
+    }
+    
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            refillExecutor.execute(() -> {
+                try {
+                    refill();
+                } catch (RuntimeException e) {
+                    log.error("Refilling game pool failed", e);
+                } finally {
+                    refillScheduled.set(false);
+                }
+            });
+        }
+    }
+}
@@ -1,84 +1,157 @@
 package com.hangman.service;
 
+import com.hangman.cluster.ClusterTopology;
 import com.hangman.domain.Game;
 import com.hangman.domain.GameGuessResult;
-import com.hangman.repository.GameRepository;
+import com.hangman.domain.WordEntry;
+import com.hangman.dto.GameResponse;
+import com.hangman.event.GameEvents;
+import com.hangman.dto.GuessRequest;
+import com.hangman.metrics.GameMetrics;
+import com.hangman.metrics.GameMetrics.Operation;
+import com.hangman.metrics.GameMetrics.Stage;
+import com.hangman.store.GameStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class HangmanService {
     
-    private final GameRepository gameRepository;
+    /** Upper bound for the number of guesses in one batch request */
+    public static final int MAX_BATCH_SIZE = 1000;
+    
+    /** Upper bound for the number of games in one bulk request */
+    public static final int MAX_BULK_SIZE = 1000;
+    
+    private static final int DEFAULT_MAX_ATTEMPTS = 6;
+    
+    private final GameStore gameStore;
+    private final GamePool gamePool;
+    private final GameMetrics metrics;
+    private final GameEvents events;
+    private final WordProvider wordProvider;
+    private final GameMailboxes mailboxes;
+    private final ClusterTopology topology;
     
     /**
      * Starts a new game with a random word
      * @return the newly created Game
      */
     public Game startNewGame() {
-        log.info("Starting new Hangman game");
-        
-        String randomWord = WordProvider.getRandomWord();
-        Game game = new Game(randomWord);
-        
-        // Save to repository
-        Game savedGame = gameRepository.save(game);
-        log.info("Game created with ID: {}, Word: {}", savedGame.getId(), randomWord);
-        
-        return savedGame;
+        log.debug("Starting new Hangman game");
+        return startNewGame(DEFAULT_MAX_ATTEMPTS);
     }
     
     /**
-     * Starts a new game with a random word and specified maximum attempts
+     * Starts a new game with a random word and specified maximum attempts.
+     * A pre-built game from the pool is used when one is ready.
      * @param maxAttempts the maximum number of attempts for the game
      * @return the newly created Game
      */
     public Game startNewGame(int maxAttempts) {
-        log.info("Starting new Hangman game with max attempts: {}", maxAttempts);
+        return startNewGame(maxAttempts, null, WordFilter.ANY);
+    }
+    
+    /**
+     * Starts a new game for a player with a word matching the filter.
+     * The player sees every matching word once before any repeats. Pooled games are only used
+     * without a player and filter, since their words are drawn in advance.
+     * @param maxAttempts the maximum number of attempts for the game
+     * @param playerId the player, or null
+     * @param filter the category and length range of the word
+     * @return the newly created Game
+     * @throws IllegalArgumentException if no word matches the filter
+     */
+    public Game startNewGame(int maxAttempts, String playerId, WordFilter filter) {
+        log.debug("Starting new Hangman game with max attempts: {}, filter: {}", maxAttempts, filter);
+        long start = System.nanoTime();
         
-        String randomWord = WordProvider.getRandomWord();
-        Game game = new Game(randomWord);
-        game.setMaxAttempts(maxAttempts);  // Set maximum attempts from client
+        Optional<Game> pooled = playerId == null && filter.isAny() ? gamePool.take(maxAttempts) : Optional.empty();
+        if (pooled.isPresent()) {
+            Game game = pooled.get();
+            metrics.recordStage(Operation.START_NEW_GAME, Stage.REPOSITORY, start);
+            metrics.gamesStarted(1);
+            events.gameCreated(game);
+            log.debug("Game handed out from pool with ID: {}, Max Attempts: {}", game.getId(), maxAttempts);
+            return game;
+        }
         
-        // Save to repository
-        Game savedGame = gameRepository.save(game);
-        log.info("Game created with ID: {}, Word: {}, Max Attempts: {}", 
-                 savedGame.getId(), randomWord, maxAttempts);
+        Game game = createGame(maxAttempts, wordProvider.nextEntry(playerId, filter));
+        start = metrics.recordStage(Operation.START_NEW_GAME, Stage.DOMAIN, start);
+        
+        // Save to store
+        Game savedGame = gameStore.save(game);
+        metrics.recordStage(Operation.START_NEW_GAME, Stage.REPOSITORY, start);
+        metrics.gamesStarted(1);
+        events.gameCreated(savedGame);
+        log.debug("Game created with ID: {}, Max Attempts: {}", savedGame.getId(), maxAttempts);
         
         return savedGame;
     }
     
+    /**
+     * Starts several games at once, preferring pooled games and saving the rest in one go
+     * @param count the number of games to start
+     * @param maxAttempts the maximum number of attempts for each game
+     * @return the newly created games
+     * @throws IllegalArgumentException if count is not between 1 and {@link #MAX_BULK_SIZE}
+     */
+    public List<Game> startNewGames(int count, int maxAttempts) {
+        if (count < 1 || count > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Count must be between 1 and " + MAX_BULK_SIZE);
+        }
+        log.debug("Starting {} new Hangman games with max attempts: {}", count, maxAttempts);
+        
+        List<Game> games = new ArrayList<>(count);
+        List<Game> created = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Optional<Game> pooled = gamePool.take(maxAttempts);
+            if (pooled.isPresent()) {
+                games.add(pooled.get());
+            } else {
+                Game game = createGame(maxAttempts, wordProvider.getRandomEntry());
+                created.add(game);
+                games.add(game);
+            }
+        }
+        if (!created.isEmpty()) {
+            gameStore.saveAll(created);
+        }
+        metrics.gamesStarted(count);
+        games.forEach(events::gameCreated);
+        log.debug("Started {} games, {} from pool", count, count - created.size());
+        
+        return games;
+    }
+    
     /**
      * Processes a guess for a specific game
      * @param gameId the game ID
      * @param letter the guessed letter
-     * @return the updated Game
+     * @return the game's state right after this guess; concurrent guesses on the same game do not change it
      * @throws IllegalArgumentException if game not found or invalid letter
      */
     public Game guess(String gameId, String letter) {
-        log.info("Processing guess for game {}: {}", gameId, letter);
+        log.debug("Processing guess for game {}: {}", gameId, letter);
         
         // Validate letter
-        if (letter == null || letter.isEmpty() || letter.length() != 1) {
-            log.warn("Invalid letter provided: {}", letter);
-            throw new IllegalArgumentException("Letter must be a single character");
-        }
-        
-        char guessChar = letter.charAt(0);
-        if (!Character.isLetter(guessChar)) {
-            log.warn("Non-letter character provided: {}", guessChar);
-            throw new IllegalArgumentException("Input must be a letter");
-        }
+        char guessChar = parseLetter(letter);
         
         // Find game
-        Optional<Game> gameOptional = gameRepository.findById(gameId);
+        long start = System.nanoTime();
+        Optional<Game> gameOptional = gameStore.findById(gameId);
+        long lookupNanos = System.nanoTime() - start;
         if (gameOptional.isEmpty()) {
             log.error("Game not found with ID: {}", gameId);
             throw new IllegalArgumentException("Game not found with ID: " + gameId);
@@ -86,21 +159,57 @@ public class HangmanService {
         
         Game game = gameOptional.get();
         
-        // Check if game is already over
-        if (game.isGameOver()) {
-            log.warn("Game {} is already over with status: {}", gameId, game.getStatus());
-            throw new IllegalArgumentException("Game is already over");
+        // Guesses for one game are applied one after another by a single writer, which saves once per run
+        // Repository time covers the lookup and the writer's save; the wait for the writer and the
+        // guesses it applies, recorded as domain time, are left out
+        return mailboxes.submit(game, current -> applyGuess(current, guessChar),
+            saveNanos -> metrics.recordStageDuration(Operation.GUESS, Stage.REPOSITORY, lookupNanos + saveNanos));
+    }
+    
+    /**
+     * Processes a batch of guesses, possibly across several games.
+     * Guesses for the same game are applied in request order under the game's lock,
+     * and all touched games are saved in one transaction.
+     * @param guesses the guesses to apply
+     * @return one response per guess, in request order; failed guesses carry only id and message
+     * @throws IllegalArgumentException if the batch is empty or larger than {@link #MAX_BATCH_SIZE}
+     */
+    @Transactional
+    public List<GameResponse> guessAll(List<GuessRequest> guesses) {
+        if (guesses == null || guesses.isEmpty() || guesses.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch must contain between 1 and " + MAX_BATCH_SIZE + " guesses");
         }
+        log.debug("Processing batch of {} guesses", guesses.size());
         
-        // Process guess
-        GameGuessResult result = game.guess(guessChar);
-        log.info("Guess result for game {}: correct={}, gameOver={}, message={}",
-                gameId, result.isCorrect(), result.isGameOver(), result.getMessage());
+        GameResponse[] results = new GameResponse[guesses.size()];
         
-        // Save updated game
-        Game updatedGame = gameRepository.save(game);
+        // Group guesses by game, keeping their order
+        Map<String, List<Integer>> guessesByGame = new LinkedHashMap<>();
+        for (int i = 0; i < guesses.size(); i++) {
+            GuessRequest guess = guesses.get(i);
+            if (guess == null || guess.getId() == null || guess.getId().isEmpty()) {
+                results[i] = failedGuess(null, "Game ID is required");
+            } else {
+                guessesByGame.computeIfAbsent(guess.getId(), id -> new ArrayList<>()).add(i);
+            }
+        }
         
-        return updatedGame;
+        for (Map.Entry<String, List<Integer>> gameGuesses : guessesByGame.entrySet()) {
+            String gameId = gameGuesses.getKey();
+            Optional<Game> gameOptional = gameStore.findById(gameId);
+            if (gameOptional.isEmpty()) {
+                for (int i : gameGuesses.getValue()) {
+                    results[i] = failedGuess(gameId, "Game not found with ID: " + gameId);
+                }
+                continue;
+            }
+            
+            Game game = gameOptional.get();
+            gameStore.withLock(gameId, () ->
+                applyGuesses(game, gameGuesses.getValue(), guesses, results) ? gameStore.save(game) : game);
+        }
+        
+        return Arrays.asList(results);
     }
     
     /**
@@ -110,7 +219,103 @@ public class HangmanService {
      * @throws IllegalArgumentException if game not found
      */
     public Game getGame(String gameId) {
-        return gameRepository.findById(gameId)
+        long start = System.nanoTime();
+        Optional<Game> game = gameStore.findById(gameId);
+        metrics.recordStage(Operation.GET_GAME, Stage.REPOSITORY, start);
+        return game
+            .orElseThrow(() -> new IllegalArgumentException("Game not found with ID: " + gameId));
+    }
+    
+    /**
+     * Suggests the next letter for a game
+     * @param gameId the game ID
+     * @return the letter contained in the most dictionary words that fit the game so far
+     * @throws IllegalArgumentException if game not found or is over
+     */
+    public LetterHint hint(String gameId) {
+        long start = System.nanoTime();
+        Game game = gameStore.findById(gameId)
             .orElseThrow(() -> new IllegalArgumentException("Game not found with ID: " + gameId));
+        start = metrics.recordStage(Operation.HINT, Stage.REPOSITORY, start);
+        if (game.isGameOver()) {
+            throw new IllegalArgumentException("Game is already over");
+        }
+        LetterHint hint = wordProvider.hint(game);
+        metrics.recordStage(Operation.HINT, Stage.DOMAIN, start);
+        return hint;
+    }
+    
+    /**
+     * Validates a guessed letter
+     * @throws IllegalArgumentException if the input is not a single letter
+     */
+    private char parseLetter(String letter) {
+        if (letter == null || letter.isEmpty() || letter.length() != 1) {
+            log.warn("Invalid letter provided: {}", letter);
+            throw new IllegalArgumentException("Letter must be a single character");
+        }
+        
+        char guessChar = letter.charAt(0);
+        if (!Character.isLetter(guessChar)) {
+            log.warn("Non-letter character provided: {}", guessChar);
+            throw new IllegalArgumentException("Input must be a letter");
+        }
+        return guessChar;
+    }
+    
+    /**
+     * Applies the given guesses of a batch to one game, recording a response per guess
+     * @return true if at least one guess changed the game
+     */
+    private boolean applyGuesses(Game game, List<Integer> indexes, List<GuessRequest> guesses, GameResponse[] results) {
+        boolean changed = false;
+        for (int i : indexes) {
+            try {
+                char guessChar = parseLetter(guesses.get(i).getLetter());
+                if (game.isGameOver()) {
+                    throw new IllegalArgumentException("Game is already over");
+                }
+                GameGuessResult result = game.guess(guessChar);
+                metrics.guessApplied(game, result);
+                events.guessApplied(game, guessChar, result);
+                results[i] = GameResponse.fromGameWithMessage(game, result.getMessage());
+                changed = true;
+            } catch (IllegalArgumentException e) {
+                results[i] = failedGuess(game.getId(), e.getMessage());
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Applies one guess on the game's writer
+     * @return the state right after this guess
+     */
+    private Game applyGuess(Game game, char guessChar) {
+        // Check if game is already over
+        if (game.isGameOver()) {
+            log.warn("Game {} is already over with status: {}", game.getId(), game.getStatus());
+            throw new IllegalArgumentException("Game is already over");
+        }
+        
+        // Process guess
+        long guessStart = System.nanoTime();
+        GameGuessResult result = game.guess(guessChar);
+        metrics.recordStage(Operation.GUESS, Stage.DOMAIN, guessStart);
+        metrics.guessApplied(game, result);
+        events.guessApplied(game, guessChar, result);
+        log.debug("Guess result for game {}: correct={}, gameOver={}, message={}",
+                game.getId(), result.isCorrect(), result.isGameOver(), result.getMessage());
+        return game.snapshot();
+    }
+    
+    private Game createGame(int maxAttempts, WordEntry entry) {
+        Game game = new Game(entry, topology.localShard());  // Owned by this instance
+        game.setMaxAttempts(maxAttempts);  // Set maximum attempts from client
+        return game;
+    }
+    
+    private static GameResponse failedGuess(String gameId, String message) {
+        return new GameResponse(gameId, null, 0, 0, null, message);
     }
 }
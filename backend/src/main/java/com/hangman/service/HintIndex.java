@@ -0,0 +1,233 @@
+package com.hangman.service;
+
+import com.hangman.domain.Alphabet;
+import com.hangman.domain.Game;
+
+import java.util.stream.IntStream;
+
+/**
+ * Bitset index of the dictionary for letter hints. Words are grouped by length, and within a group
+ * every word is one bit. For every position and character class there is a bitset of the words
+ * holding that class there, and for every letter one of the words containing it anywhere, with
+ * Ä/A, Ö/O and Ü/U folded together as a guess folds them.
+ * <p>
+ * The words consistent with a game are found by intersecting bitsets 64 words per operation:
+ * revealed positions must hold the revealed character, and hidden positions must hold a letter
+ * that was not guessed yet. Large groups are evaluated in blocks on the common fork-join pool.
+ * Bitsets of classes that never occur at a position are not allocated.
+ */
+final class HintIndex {
+    
+    /** Words per block; a block's candidate bits fit in the L1 cache */
+    static final int BLOCK_WORDS = 1 << 16;
+    /** Groups with more blocks than this are evaluated in parallel */
+    static final int PARALLEL_BLOCKS = 4;
+    
+    private static final int BLOCK_LONGS = BLOCK_WORDS / Long.SIZE;
+    private static final int NON_LETTER = Alphabet.SIZE;
+    private static final int CLASSES = Alphabet.SIZE + 1;
+    /** Letters a hint may suggest; Ä, Ö and Ü are covered by A, O and U */
+    private static final int[] SUGGESTIBLE = IntStream.range(0, Alphabet.SIZE)
+        .filter(index -> index <= 'Z' - 'A' || Alphabet.equivalentOf(index) < 0)
+        .toArray();
+    
+    private final LengthGroup[] groups = new LengthGroup[Game.MAX_WORD_LENGTH + 1];
+    
+    private HintIndex(WordDictionary dictionary) {
+        WordDictionary.Bucket all = dictionary.bucket(null);
+        IntStream.rangeClosed(1, Game.MAX_WORD_LENGTH)
+            .parallel()
+            .forEach(length -> groups[length] = new LengthGroup(dictionary, all, length));
+    }
+    
+    static HintIndex build(WordDictionary dictionary) {
+        return new HintIndex(dictionary);
+    }
+    
+    /**
+     * Suggests the letter contained in the most words consistent with the game's state.
+     * If no dictionary word is consistent, e.g. for a word from an older dictionary, the letter is
+     * chosen from all words of the same length and the hint reports no candidates.
+     * @param word the game's word; only its revealed positions are read
+     * @param revealedMask the revealed positions, one bit per position
+     * @param guessedMask the guessed letters, one bit per {@link Alphabet} index
+     */
+    LetterHint hint(String word, long revealedMask, int guessedMask) {
+        LengthGroup group = word.length() <= Game.MAX_WORD_LENGTH ? groups[word.length()] : null;
+        if (group == null || group.size == 0) {
+            return LetterHint.NONE;
+        }
+        int excluded = guessedMask;
+        for (int index = 0; index < Alphabet.SIZE; index++) {
+            int equivalent = Alphabet.equivalentOf(index);
+            if ((guessedMask & (1 << index)) != 0 && equivalent >= 0) {
+                excluded |= 1 << equivalent;
+            }
+        }
+        
+        long[][] required = new long[word.length()][];
+        long[][] forbidden = new long[word.length() * CLASSES][];
+        int forbiddenCount = 0;
+        for (int position = 0; position < word.length(); position++) {
+            long[][] classes = group.positions[position];
+            if ((revealedMask & (1L << position)) != 0) {
+                required[position] = classes[classOf(word.charAt(position))];
+                if (required[position] == null) {
+                    return group.fallback(excluded);
+                }
+                continue;
+            }
+            for (int c = 0; c < CLASSES; c++) {
+                boolean excludedClass = c == NON_LETTER || (excluded & (1 << c)) != 0;
+                if (excludedClass && classes[c] != null) {
+                    forbidden[forbiddenCount++] = classes[c];
+                }
+            }
+        }
+        
+        Counts counts = group.count(required, forbidden, forbiddenCount, excluded);
+        return counts.candidates == 0 ? group.fallback(excluded) : counts.toHint(excluded, counts.candidates);
+    }
+    
+    private static int classOf(char c) {
+        int index = Alphabet.indexOf(c);
+        return index < 0 ? NON_LETTER : index;
+    }
+    
+    /**
+     * Words of one length, in the order of their slots in the dictionary's length-sorted bucket
+     */
+    private static final class LengthGroup {
+        
+        private final int size;
+        private final int longs;
+        /** One bit per word of this length */
+        private final long[] members;
+        /** Per position and character class, the words holding the class there */
+        private final long[][][] positions;
+        /** Per letter, the words containing it or its umlaut equivalent */
+        private final long[][] letters = new long[Alphabet.SIZE][];
+        
+        LengthGroup(WordDictionary dictionary, WordDictionary.Bucket all, int length) {
+            int from = all.from(length);
+            this.size = all.to(length) - from;
+            this.longs = (size + Long.SIZE - 1) / Long.SIZE;
+            this.members = new long[longs];
+            this.positions = new long[length][CLASSES][];
+            for (int i = 0; i < size; i++) {
+                String word = dictionary.get(all.word(from + i));
+                long bit = 1L << i;
+                int slot = i >>> 6;
+                members[slot] |= bit;
+                for (int position = 0; position < length; position++) {
+                    int c = classOf(word.charAt(position));
+                    bitset(positions[position], c)[slot] |= bit;
+                    if (c != NON_LETTER) {
+                        bitset(letters, c)[slot] |= bit;
+                        int equivalent = Alphabet.equivalentOf(c);
+                        if (equivalent >= 0) {
+                            bitset(letters, equivalent)[slot] |= bit;
+                        }
+                    }
+                }
+            }
+        }
+        
+        private long[] bitset(long[][] bitsets, int index) {
+            if (bitsets[index] == null) {
+                bitsets[index] = new long[longs];
+            }
+            return bitsets[index];
+        }
+        
+        Counts count(long[][] required, long[][] forbidden, int forbiddenCount, int excluded) {
+            int blocks = (longs + BLOCK_LONGS - 1) / BLOCK_LONGS;
+            IntStream indices = IntStream.range(0, blocks);
+            if (blocks > PARALLEL_BLOCKS) {
+                indices = indices.parallel();
+            }
+            return indices
+                .mapToObj(block -> countBlock(block, required, forbidden, forbiddenCount, excluded))
+                .reduce(Counts::add)
+                .orElseGet(Counts::new);
+        }
+        
+        /**
+         * Intersects the bitsets over one block, then counts the candidates containing each letter
+         */
+        private Counts countBlock(int block, long[][] required, long[][] forbidden, int forbiddenCount, int excluded) {
+            int from = block * BLOCK_LONGS;
+            int to = Math.min(longs, from + BLOCK_LONGS);
+            long[] candidates = new long[to - from];
+            System.arraycopy(members, from, candidates, 0, to - from);
+            for (long[] bitset : required) {
+                if (bitset != null) {
+                    for (int i = from; i < to; i++) {
+                        candidates[i - from] &= bitset[i];
+                    }
+                }
+            }
+            for (int f = 0; f < forbiddenCount; f++) {
+                long[] bitset = forbidden[f];
+                for (int i = from; i < to; i++) {
+                    candidates[i - from] &= ~bitset[i];
+                }
+            }
+            
+            Counts counts = new Counts();
+            for (long bits : candidates) {
+                counts.candidates += Long.bitCount(bits);
+            }
+            if (counts.candidates > 0) {
+                for (int letter : SUGGESTIBLE) {
+                    long[] bitset = letters[letter];
+                    if ((excluded & (1 << letter)) == 0 && bitset != null) {
+                        int count = 0;
+                        for (int i = from; i < to; i++) {
+                            count += Long.bitCount(candidates[i - from] & bitset[i]);
+                        }
+                        counts.letters[letter] = count;
+                    }
+                }
+            }
+            return counts;
+        }
+        
+        /**
+         * Counts letters over every word of this length, ignoring the revealed positions
+         */
+        LetterHint fallback(int excluded) {
+            Counts counts = count(new long[0][], new long[0][], 0, excluded);
+            return counts.toHint(excluded, 0);
+        }
+    }
+    
+    /**
+     * Candidates and, per letter, the candidates containing it
+     */
+    private static final class Counts {
+        
+        private int candidates;
+        private final int[] letters = new int[Alphabet.SIZE];
+        
+        Counts add(Counts other) {
+            candidates += other.candidates;
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] += other.letters[i];
+            }
+            return this;
+        }
+        
+        LetterHint toHint(int excluded, int reportedCandidates) {
+            int best = -1;
+            for (int letter : SUGGESTIBLE) {
+                if ((excluded & (1 << letter)) == 0 && letters[letter] > 0 && (best < 0 || letters[letter] > letters[best])) {
+                    best = letter;
+                }
+            }
+            return best < 0
+                ? new LetterHint(null, reportedCandidates, 0)
+                : new LetterHint(Alphabet.letterAt(best), reportedCandidates, letters[best]);
+        }
+    }
+}
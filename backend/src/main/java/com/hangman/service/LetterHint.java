@@ -0,0 +1,24 @@
+package com.hangman.service;
+
+import lombok.Value;
+
+/**
+ * The letter a hint suggests, with the dictionary words it was chosen from.
+ * Without candidates the letter was chosen by frequency among all words of the game's length.
+ */
+@Value
+public class LetterHint {
+    
+    static final LetterHint NONE = new LetterHint(null, 0, 0);
+    
+    Character letter; // Null if no word of the game's length has an unguessed letter
+    int candidates; // Dictionary words consistent with the revealed positions and guessed letters
+    int matches; // Candidates containing the letter
+    
+    /**
+     * @return the share of candidates containing the letter, or 0 without candidates
+     */
+    public double getHitProbability() {
+        return candidates == 0 ? 0 : matches / (double) candidates;
+    }
+}
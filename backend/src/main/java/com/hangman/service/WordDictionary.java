@@ -0,0 +1,321 @@
+package com.hangman.service;
+
+import com.hangman.domain.Alphabet;
+import com.hangman.domain.Game;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Packed word list: UTF-8 text with one word per line, plus an offset table holding the start of
+ * every playable line. A file-backed dictionary stays memory-mapped, so the heap only holds a few
+ * bytes per word; words are decoded one at a time when they are drawn.
+ * <p>
+ * A line may name a category after a tab ({@code KATZE\ttiere}). For every category, and for all
+ * words together, the word indices are kept sorted by length, so any length range of a category
+ * is one contiguous {@link Bucket} slice.
+ * <p>
+ * Blank lines, {@code #} comments and words that cannot be played (longer than
+ * {@link Game#MAX_WORD_LENGTH}, letters outside the {@link Alphabet}) are skipped while indexing.
+ */
+final class WordDictionary {
+
+    private static final byte TAB = '\t';
+
+    private final ByteBuffer data;
+    private final int[] offsets;
+    private final Bucket all;
+    private final Map<String, Bucket> categories;
+
+    private WordDictionary(ByteBuffer data, List<Part> parts) {
+        this.data = data;
+        int size = parts.stream().mapToInt(part -> part.count).sum();
+        this.offsets = new int[size];
+        byte[] lengths = new byte[size];
+        short[] categoryIds = new short[size];
+        List<String> categoryNames = new ArrayList<>();
+        Map<String, Short> categoryIdsByName = new HashMap<>();
+        int position = 0;
+        for (Part part : parts) {
+            System.arraycopy(part.offsets, 0, offsets, position, part.count);
+            System.arraycopy(part.lengths, 0, lengths, position, part.count);
+            for (int i = 0; i < part.count; i++) {
+                short local = part.categories[i];
+                categoryIds[position + i] = local < 0 ? -1 : categoryIdsByName.computeIfAbsent(
+                    part.categoryNames.get(local), name -> {
+                        categoryNames.add(name);
+                        return (short) (categoryNames.size() - 1);
+                    });
+            }
+            position += part.count;
+        }
+        this.all = Bucket.sortByLength(lengths, IntStream.range(0, size).toArray());
+        int[][] members = new int[categoryNames.size()][];
+        int[] counts = new int[categoryNames.size()];
+        for (short category : categoryIds) {
+            if (category >= 0) {
+                counts[category]++;
+            }
+        }
+        for (int id = 0; id < members.length; id++) {
+            members[id] = new int[counts[id]];
+            counts[id] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (categoryIds[i] >= 0) {
+                members[categoryIds[i]][counts[categoryIds[i]]++] = i;
+            }
+        }
+        this.categories = new HashMap<>();
+        for (int id = 0; id < members.length; id++) {
+            categories.put(categoryNames.get(id), Bucket.sortByLength(lengths, members[id]));
+        }
+    }
+
+    static WordDictionary of(List<String> lines) {
+        ByteBuffer data = ByteBuffer.wrap(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+        return new WordDictionary(data, index(data, 1));
+    }
+
+    /**
+     * Maps a word file and indexes it in parallel
+     * @param file UTF-8 file with one word per line
+     * @param chunks the number of ranges indexed in parallel
+     */
+    static WordDictionary map(Path file, int chunks) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Word file larger than 2 GB: " + file);
+            }
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new WordDictionary(data, index(data, chunks));
+        }
+    }
+
+    int size() {
+        return offsets.length;
+    }
+
+    /**
+     * @param category a category name (case-insensitive), or null for all words
+     * @return the words of the category sorted by length; empty for an unknown category
+     */
+    Bucket bucket(String category) {
+        if (category == null) {
+            return all;
+        }
+        return categories.getOrDefault(category.toLowerCase(Locale.ROOT), Bucket.EMPTY);
+    }
+
+    /**
+     * Decodes one word
+     * @param index the word index, below {@link #size()}
+     * @return the word in upper case
+     */
+    String get(int index) {
+        int start = offsets[index];
+        int end = wordEnd(data, start, lineEnd(data, start));
+        byte[] bytes = new byte[end - start];
+        data.get(start, bytes);
+        String word = new String(bytes, StandardCharsets.UTF_8);
+        char[] chars = word.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            // Per char, so ß stays one character
+            chars[i] = Character.toUpperCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Word indices sorted by length. {@code lengthStarts[n]} is the first slot holding a word of
+     * length {@code n} or longer.
+     */
+    static final class Bucket {
+
+        static final Bucket EMPTY = new Bucket(new int[0], new int[Game.MAX_WORD_LENGTH + 2]);
+
+        private final int[] words;
+        private final int[] lengthStarts;
+
+        private Bucket(int[] words, int[] lengthStarts) {
+            this.words = words;
+            this.lengthStarts = lengthStarts;
+        }
+
+        /**
+         * Counting sort, since lengths never exceed {@link Game#MAX_WORD_LENGTH}
+         */
+        static Bucket sortByLength(byte[] lengths, int[] indices) {
+            int[] lengthStarts = new int[Game.MAX_WORD_LENGTH + 2];
+            for (int index : indices) {
+                lengthStarts[lengths[index] + 1]++;
+            }
+            for (int length = 1; length < lengthStarts.length; length++) {
+                lengthStarts[length] += lengthStarts[length - 1];
+            }
+            int[] next = Arrays.copyOf(lengthStarts, lengthStarts.length);
+            int[] words = new int[indices.length];
+            for (int index : indices) {
+                words[next[lengths[index]]++] = index;
+            }
+            return new Bucket(words, lengthStarts);
+        }
+
+        /**
+         * @return the first slot of words at least minLength long
+         */
+        int from(int minLength) {
+            return lengthStarts[Math.max(0, Math.min(minLength, Game.MAX_WORD_LENGTH + 1))];
+        }
+
+        /**
+         * @return the slot after the last word at most maxLength long
+         */
+        int to(int maxLength) {
+            return maxLength <= 0 || maxLength >= Game.MAX_WORD_LENGTH
+                ? words.length
+                : lengthStarts[maxLength + 1];
+        }
+
+        int word(int slot) {
+            return words[slot];
+        }
+    }
+
+    /**
+     * Words found in one range of the file, with categories numbered locally
+     */
+    private static final class Part {
+        int[] offsets = new int[64];
+        byte[] lengths = new byte[64];
+        short[] categories = new short[64];
+        final List<String> categoryNames = new ArrayList<>();
+        final Map<String, Short> categoryIds = new HashMap<>();
+        int count;
+
+        void add(int offset, int length, String category) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                lengths = Arrays.copyOf(lengths, count * 2);
+                categories = Arrays.copyOf(categories, count * 2);
+            }
+            offsets[count] = offset;
+            lengths[count] = (byte) length;
+            categories[count] = category == null ? -1 : categoryIds.computeIfAbsent(category, name -> {
+                categoryNames.add(name);
+                return (short) (categoryNames.size() - 1);
+            });
+            count++;
+        }
+    }
+
+    private static List<Part> index(ByteBuffer data, int chunks) {
+        int limit = data.limit();
+        int chunkCount = Math.max(1, Math.min(chunks, limit));
+        return IntStream.range(0, chunkCount)
+            .parallel()
+            .mapToObj(chunk -> indexRange(data,
+                (int) ((long) limit * chunk / chunkCount),
+                (int) ((long) limit * (chunk + 1) / chunkCount)))
+            .toList();
+    }
+
+    /**
+     * Indexes the lines that start within [from, to)
+     */
+    private static Part indexRange(ByteBuffer data, int from, int to) {
+        int start = from;
+        // A line that began in the previous range belongs to that range
+        while (start > 0 && start < to && data.get(start - 1) != '\n') {
+            start++;
+        }
+        Part part = new Part();
+        while (start < to) {
+            int end = lineEnd(data, start);
+            int wordEnd = wordEnd(data, start, end);
+            int length = playableLength(data, start, wordEnd);
+            if (length > 0) {
+                part.add(start, length, wordEnd < end ? category(data, wordEnd + 1, end) : null);
+            }
+            start = nextLine(data, end);
+        }
+        return part;
+    }
+
+    /**
+     * @return the end of the line starting at start, excluding a trailing {@code \r}
+     */
+    private static int lineEnd(ByteBuffer data, int start) {
+        int end = start;
+        int limit = data.limit();
+        while (end < limit && data.get(end) != '\n') {
+            end++;
+        }
+        return end > start && data.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+    private static int wordEnd(ByteBuffer data, int start, int lineEnd) {
+        int end = start;
+        while (end < lineEnd && data.get(end) != TAB) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int nextLine(ByteBuffer data, int end) {
+        int limit = data.limit();
+        while (end < limit && data.get(end) != '\n') {
+            end++;
+        }
+        return end + 1;
+    }
+
+    private static String category(ByteBuffer data, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        data.get(start, bytes);
+        String category = new String(bytes, StandardCharsets.UTF_8).trim().toLowerCase(Locale.ROOT);
+        return category.isEmpty() ? null : category;
+    }
+
+    /**
+     * @return the number of characters of a playable word, or 0 if it cannot be played
+     */
+    private static int playableLength(ByteBuffer data, int start, int end) {
+        if (start == end || data.get(start) == '#') {
+            return 0;
+        }
+        int length = 0;
+        boolean hasLetter = false;
+        for (int i = start; i < end; length++) {
+            int lead = data.get(i) & 0xFF;
+            char c;
+            if (lead < 0x80) {
+                c = (char) lead;
+                i++;
+            } else if ((lead & 0xE0) == 0xC0 && i + 1 < end) {
+                c = (char) (((lead & 0x1F) << 6) | (data.get(i + 1) & 0x3F));
+                i += 2;
+            } else {
+                // Every Alphabet letter is encoded in at most two bytes
+                return 0;
+            }
+            if (Alphabet.indexOf(Character.toUpperCase(c)) >= 0) {
+                hasLetter = true;
+            } else if (Character.isLetterOrDigit(c) || Character.isISOControl(c)) {
+                return 0;
+            }
+        }
+        return hasLetter && length <= Game.MAX_WORD_LENGTH ? length : 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hangman.service;
+
+import lombok.Value;
+
+/**
+ * Restricts the words a new game may be played with.
+ * A null category matches every category; a length of 0 or less leaves that bound open.
+ */
+@Value
+public class WordFilter {
+    
+    public static final WordFilter ANY = new WordFilter(null, 0, 0);
+    
+    String category;
+    int minLength;
+    int maxLength;
+    
+    public boolean isAny() {
+        return category == null && minLength <= 0 && maxLength <= 0;
+    }
+}
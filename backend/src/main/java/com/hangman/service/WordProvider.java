@@ -1,21 +1,167 @@
 package com.hangman.service;
 
+import com.hangman.domain.Game;
+import com.hangman.domain.WordEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Catalog of playable words.
+ * <p>
+ * With {@code hangman.words.file} set, words come from a UTF-8 file with one word per line that is
+ * memory-mapped and indexed in parallel on first use; otherwise a small built-in list is used.
+ * Only an offset table is kept on the heap, and a word is compiled into a {@link WordEntry} when it
+ * is drawn, so startup time and heap use barely grow with the dictionary.
+ * <p>
+ * {@link #nextEntry(String, WordFilter)} draws from a category and length range and, per player,
+ * does not repeat a word until the range is exhausted (see {@link WordSampler}).
+ * <p>
+ * {@link #hint(Game)} suggests the next letter from a bitset index of the dictionary (see
+ * {@link HintIndex}), built in parallel on the first hint.
+ */
+@Component
+@Slf4j
 public class WordProvider {
-    private static final List<String> WORDS = Arrays.asList(
-        "AUTO", "KATZE", "HUND", "BAUM", "HAUS", "COMPUTER", "PROGRAMM",
-        "JAVA", "SPRING", "BOOT", "DATABASE", "ENTWICKLER", "HANGMAN",
-        "ALPHABET", "BUCHSTABE", "SPIEL", "SIEG", "NIEDERLAGE", "WORT",
-        "SCHULE", "STUDIUM", "PROJEKT", "LÖSUNG", "FEHLER", "VERSUCH",
-        "MÜNCHEN", "KÖLN", "ZÜRICH", "GRÜN", "SCHÖN", "ÜBUNG", "TÜR"
+    /** Built-in words, each with its category after a tab */
+    static final List<String> DEFAULT_WORDS = Arrays.asList(
+        "AUTO\talltag", "KATZE\ttiere", "HUND\ttiere", "BAUM\tnatur", "HAUS\talltag",
+        "COMPUTER\ttechnik", "PROGRAMM\ttechnik", "JAVA\ttechnik", "SPRING\ttechnik", "BOOT\talltag",
+        "DATABASE\ttechnik", "ENTWICKLER\ttechnik", "HANGMAN\tspiel", "ALPHABET\tschule",
+        "BUCHSTABE\tschule", "SPIEL\tspiel", "SIEG\tspiel", "NIEDERLAGE\tspiel", "WORT\tschule",
+        "SCHULE\tschule", "STUDIUM\tschule", "PROJEKT\ttechnik", "LÖSUNG\tschule", "FEHLER\ttechnik",
+        "VERSUCH\tspiel", "MÜNCHEN\tstädte", "KÖLN\tstädte", "ZÜRICH\tstädte", "GRÜN\tnatur",
+        "SCHÖN\talltag", "ÜBUNG\tschule", "TÜR\talltag"
     );
     
-    private static final Random RANDOM = new Random();
+    private final Path file;
+    private final WordSampler sampler;
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile WordDictionary dictionary;
+    private volatile HintIndex hintIndex;
+    
+    @Autowired
+    public WordProvider(@Value("${hangman.words.file:}") String file,
+                        @Value("${hangman.words.max-sessions:100000}") int maxSessions) {
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.sampler = new WordSampler(maxSessions);
+    }
+    
+    public WordProvider(String file) {
+        this(file, 100_000);
+    }
+    
+    /**
+     * Creates a provider for the built-in words
+     */
+    public WordProvider() {
+        this("");
+    }
+    
+    public WordEntry getRandomEntry() {
+        WordDictionary words = dictionary();
+        return WordEntry.compile(words.get(ThreadLocalRandom.current().nextInt(words.size())));
+    }
+    
+    /**
+     * Draws a word matching the filter. A player sees every matching word once before any repeats.
+     * @param playerId the player, or null to draw without repeat protection
+     * @param filter the category and length range to draw from
+     * @return the compiled word
+     * @throws IllegalArgumentException if no word matches the filter
+     */
+    public WordEntry nextEntry(String playerId, WordFilter filter) {
+        WordDictionary words = dictionary();
+        WordDictionary.Bucket bucket = words.bucket(filter.getCategory());
+        int from = bucket.from(filter.getMinLength());
+        int to = bucket.to(filter.getMaxLength());
+        if (from >= to) {
+            throw new IllegalArgumentException("No words match the filter");
+        }
+        int slot = from + sampler.next(playerId, filter, to - from);
+        return WordEntry.compile(words.get(bucket.word(slot)));
+    }
+    
+    public String getRandomWord() {
+        return getRandomEntry().getWord();
+    }
+    
+    /**
+     * @return the number of playable words, loading the dictionary if needed
+     */
+    public int size() {
+        return dictionary().size();
+    }
+    
+    /**
+     * Suggests the letter contained in the most dictionary words consistent with the game's
+     * revealed positions and guessed letters
+     * @param game the game; its word is only read at revealed positions
+     * @return the suggested letter with the number of candidate words
+     */
+    public LetterHint hint(Game game) {
+        return hintIndex().hint(game.getWord(), game.getRevealedMask(), game.getGuessedMask());
+    }
+    
+    private HintIndex hintIndex() {
+        HintIndex index = hintIndex;
+        if (index != null) {
+            return index;
+        }
+        WordDictionary words = dictionary();
+        loadLock.lock();
+        try {
+            if (hintIndex == null) {
+                long start = System.nanoTime();
+                hintIndex = HintIndex.build(words);
+                log.info("Built hint index of {} words in {} ms", words.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+            return hintIndex;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+    
+    private WordDictionary dictionary() {
+        WordDictionary words = dictionary;
+        if (words != null) {
+            return words;
+        }
+        loadLock.lock();
+        try {
+            if (dictionary == null) {
+                dictionary = load();
+            }
+            return dictionary;
+        } finally {
+            loadLock.unlock();
+        }
+    }
     
-    public static String getRandomWord() {
-        return WORDS.get(RANDOM.nextInt(WORDS.size()));
+    private WordDictionary load() {
+        if (file == null) {
+            return WordDictionary.of(DEFAULT_WORDS);
+        }
+        long start = System.nanoTime();
+        WordDictionary words;
+        try {
+            words = WordDictionary.map(file, Runtime.getRuntime().availableProcessors());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load word file " + file, e);
+        }
+        if (words.size() == 0) {
+            throw new IllegalStateException("Word file contains no playable words: " + file);
+        }
+        log.info("Indexed {} words from {} in {} ms", words.size(), file, (System.nanoTime() - start) / 1_000_000);
+        return words;
     }
 }
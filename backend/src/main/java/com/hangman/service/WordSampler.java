@@ -0,0 +1,122 @@
+package com.hangman.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws word slots so that a player sees every word of a filtered range once before any repeats.
+ * <p>
+ * Instead of remembering the words a player has seen, a session walks a keyed pseudo-random
+ * permutation of the range: a 4-round Feistel network over the next power of four, cycle-walked
+ * into the range. A session is just the filter, the range size, a 64-bit key and a cursor. When
+ * the cursor reaches the end, a new key starts the next round, never opening with the word that
+ * closed the previous one.
+ * <p>
+ * Randomness comes from {@link ThreadLocalRandom}, so concurrent game creation shares no seed.
+ */
+class WordSampler {
+    
+    private static final int ROUNDS = 4;
+    
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final int maxSessions;
+    
+    WordSampler(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+    
+    /**
+     * @param playerId the player, or null to draw without a session
+     * @param filter the filter that defines the range
+     * @param size the number of words in the range, at least 1
+     * @return a slot in [0, size)
+     */
+    int next(String playerId, WordFilter filter, int size) {
+        if (playerId == null) {
+            return ThreadLocalRandom.current().nextInt(size);
+        }
+        int[] slot = new int[1];
+        sessions.compute(playerId, (id, session) -> {
+            if (session == null || session.size != size || !session.filter.equals(filter)) {
+                session = new Session(filter, size, -1);
+            } else if (session.cursor == size) {
+                session = new Session(filter, size, session.last);
+            }
+            slot[0] = session.last = permute(session.cursor++, size, session.key);
+            session.lastUsed = System.nanoTime();
+            return session;
+        });
+        if (sessions.size() > maxSessions) {
+            evictOldest();
+        }
+        return slot[0];
+    }
+    
+    int sessions() {
+        return sessions.size();
+    }
+    
+    /**
+     * Maps index to its position in the permutation of [0, size) selected by key
+     */
+    static int permute(int index, int size, long key) {
+        int bits = Math.max(2, 32 - Integer.numberOfLeadingZeros(size - 1));
+        int half = (bits + 1) / 2;
+        int mask = (1 << half) - 1;
+        int value = index;
+        do {
+            int left = value >>> half;
+            int right = value & mask;
+            for (int round = 0; round < ROUNDS; round++) {
+                int next = left ^ (mix(right, key, round) & mask);
+                left = right;
+                right = next;
+            }
+            value = (left << half) | right;
+        } while (Integer.compareUnsigned(value, size) >= 0);
+        return value;
+    }
+    
+    private static int mix(int value, long key, int round) {
+        long hash = (value + 1L) * 0x9E3779B97F4A7C15L ^ Long.rotateLeft(key, round * 16);
+        hash = (hash ^ (hash >>> 31)) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+    
+    /**
+     * Drops the least recently used sessions, a quarter of the limit at once, so the sort over all
+     * sessions is paid once per many new players and a player who is still drawing keeps their round
+     */
+    private synchronized void evictOldest() {
+        int excess = sessions.size() - (maxSessions - maxSessions / 4);
+        if (excess <= 0) {
+            return;
+        }
+        long[] lastUsed = sessions.values().stream().mapToLong(session -> session.lastUsed).sorted().toArray();
+        if (lastUsed.length < excess) {
+            return;
+        }
+        long pivot = lastUsed[excess - 1];
+        sessions.values().removeIf(session -> session.lastUsed - pivot <= 0);
+    }
+    
+    private static final class Session {
+        final WordFilter filter;
+        final int size;
+        final long key;
+        int cursor;
+        int last = -1;
+        long lastUsed;
+        
+        Session(WordFilter filter, int size, int previous) {
+            this.filter = filter;
+            this.size = size;
+            long candidate;
+            do {
+                candidate = ThreadLocalRandom.current().nextLong();
+            } while (size > 1 && permute(0, size, candidate) == previous);
+            this.key = candidate;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.hangman.snapshot;
+
+import com.hangman.domain.Game;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of one game inside a snapshot.
+ * Strings are a {@code short} char count followed by UTF-16 chars.
+ */
+final class GameSnapshotCodec {
+    
+    /** Upper bound of an encoded game: three strings of at most 64 chars plus the counters */
+    static final int MAX_RECORD_SIZE = 3 * (Short.BYTES + 2 * Math.max(Game.MAX_WORD_LENGTH, Game.MAX_OTHER_GUESSES)) + 32;
+    
+    private GameSnapshotCodec() {
+    }
+    
+    static void encode(Game game, ByteBuffer buffer) {
+        putString(buffer, game.getId());
+        putString(buffer, game.getWord());
+        buffer.putInt(game.getFailedAttempts());
+        buffer.putInt(game.getMaxAttempts());
+        buffer.putInt(game.getGuessedMask());
+        putString(buffer, game.getOtherGuesses());
+        buffer.putLong(game.getRevealedMask());
+        buffer.putInt(game.getRemainingLetters());
+        buffer.put((byte) game.getStatus().ordinal());
+        buffer.putLong(game.getLastActivity());
+        buffer.putLong(game.getVersion());
+    }
+    
+    static Game decode(ByteBuffer buffer) {
+        Game game = new Game();
+        game.setId(getString(buffer));
+        game.setWord(getString(buffer));
+        game.setFailedAttempts(buffer.getInt());
+        game.setMaxAttempts(buffer.getInt());
+        game.setGuessedMask(buffer.getInt());
+        game.setOtherGuesses(getString(buffer));
+        game.setRevealedMask(buffer.getLong());
+        game.setRemainingLetters(buffer.getInt());
+        game.setStatus(Game.GameStatus.values()[buffer.get()]);
+        game.setLastActivity(buffer.getLong());
+        game.setVersion(buffer.getLong());
+        return game;
+    }
+    
+    private static void putString(ByteBuffer buffer, String value) {
+        buffer.putShort((short) value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.putChar(value.charAt(i));
+        }
+    }
+    
+    private static String getString(ByteBuffer buffer) {
+        char[] chars = new char[buffer.getShort()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = buffer.getChar();
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,255 @@
+package com.hangman.snapshot;
+
+import com.hangman.domain.Game;
+import com.hangman.store.GameStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Periodically writes every in-memory game to a compact binary snapshot and restores it on startup.
+ * <p>
+ * Snapshots are taken on a background thread; each game is only locked for the few nanoseconds it
+ * takes to encode it, so gameplay never waits for a full snapshot. The file is written to a temp file
+ * and atomically moved over the previous snapshot, so a crash mid-write never leaves a torn file.
+ * <p>
+ * File layout: {@code int magic, short format, long createdAt, int chunkCount}, followed by chunks of
+ * {@code int byteLength, int gameCount, games...}. Chunks are memory-mapped and decoded in parallel on
+ * restore, which runs before the web server starts so no request sees a half-restored store.
+ * <p>
+ * On unless {@code hangman.snapshot.enabled=false}, so a default deploy keeps its active games
+ * across restarts; tests switch it off so they never pick up a snapshot left in the working directory.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "hangman.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+public class GameSnapshotter implements SmartInitializingSingleton {
+    
+    static final int MAGIC = 0x48475331; // "HGS1"
+    static final short FORMAT = 4;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    static final int CHUNK_HEADER_SIZE = 2 * Integer.BYTES;
+    static final int CHUNK_SIZE = 1 << 20;
+    
+    private final GameStore gameStore;
+    private final Path file;
+    private final long intervalMs;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private ScheduledExecutorService scheduler;
+    
+    public GameSnapshotter(GameStore gameStore,
+                           @Value("${hangman.snapshot.file:data/snapshot/games.bin}") Path file,
+                           @Value("${hangman.snapshot.interval-ms:30000}") long intervalMs) {
+        this.gameStore = gameStore;
+        this.file = file;
+        this.intervalMs = intervalMs;
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+        if (intervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Writes all games currently held in memory to the snapshot file.
+     * @return the number of games written
+     */
+    public int snapshot() {
+        snapshotLock.lock();
+        try {
+            long start = System.nanoTime();
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            int written;
+            try {
+                written = writeTo(temp);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("Snapshot of {} games written in {} ms", written, (System.nanoTime() - start) / 1_000_000);
+            return written;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write game snapshot", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+    
+    /**
+     * Loads all games from the snapshot file into the store. A missing file is not an error.
+     * @return the number of games restored
+     */
+    public int restore() {
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = readChunkIndex(channel);
+            AtomicInteger restored = new AtomicInteger();
+            chunks.parallelStream().forEach(chunk -> restored.addAndGet(restoreChunk(channel, chunk[0], chunk[1])));
+            log.info("Restored {} games from {} in {} ms", restored.get(), file.toAbsolutePath(),
+                (System.nanoTime() - start) / 1_000_000);
+            return restored.get();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable game snapshot {}", file.toAbsolutePath(), e);
+            return 0;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        snapshotQuietly();
+    }
+    
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.warn("Game snapshot failed", e);
+        }
+    }
+    
+    private int writeTo(Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            int[] counts = new int[3]; // games in chunk, chunks, games total
+            channel.position(HEADER_SIZE);
+            chunk.position(CHUNK_HEADER_SIZE);
+            gameStore.forEach(game -> {
+                if (chunk.remaining() < GameSnapshotCodec.MAX_RECORD_SIZE) {
+                    writeChunk(channel, chunk, counts);
+                }
+                if (gameStore.withLock(game.getId(), () -> encode(game, chunk))) {
+                    counts[0]++;
+                    counts[2]++;
+                }
+            });
+            if (counts[0] > 0) {
+                writeChunk(channel, chunk, counts);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putShort(FORMAT)
+                .putLong(System.currentTimeMillis())
+                .putInt(counts[1])
+                .flip();
+            writeFully(channel, header, 0);
+            channel.force(false);
+            return counts[2];
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
+    private static boolean encode(Game game, ByteBuffer chunk) {
+        if (game.getWord() == null || game.getStatus() == null) {
+            return false;
+        }
+        GameSnapshotCodec.encode(game, chunk);
+        return true;
+    }
+    
+    private static void writeChunk(FileChannel channel, ByteBuffer chunk, int[] counts) {
+        chunk.putInt(0, chunk.position() - CHUNK_HEADER_SIZE);
+        chunk.putInt(Integer.BYTES, counts[0]);
+        chunk.flip();
+        try {
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear().position(CHUNK_HEADER_SIZE);
+        counts[0] = 0;
+        counts[1]++;
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+    
+    /**
+     * Walks the chunk headers and returns {@code [offset, byteLength]} of each chunk body.
+     */
+    private static List<long[]> readChunkIndex(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        if (header.getInt() != MAGIC || header.getShort() != FORMAT) {
+            throw new IOException("Not a game snapshot of format " + FORMAT);
+        }
+        header.getLong();
+        int chunkCount = header.getInt();
+        List<long[]> chunks = new ArrayList<>(chunkCount);
+        ByteBuffer chunkHeader = ByteBuffer.allocate(CHUNK_HEADER_SIZE);
+        long position = HEADER_SIZE;
+        for (int i = 0; i < chunkCount; i++) {
+            readFully(channel, chunkHeader.clear(), position);
+            int length = chunkHeader.getInt(0);
+            chunks.add(new long[] {position + CHUNK_HEADER_SIZE, length});
+            position += CHUNK_HEADER_SIZE + length;
+        }
+        return chunks;
+    }
+    
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Truncated game snapshot");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+    
+    private int restoreChunk(FileChannel channel, long offset, long length) {
+        try {
+            MappedByteBuffer body = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            int restored = 0;
+            while (body.hasRemaining()) {
+                gameStore.register(GameSnapshotCodec.decode(body));
+                restored++;
+            }
+            return restored;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.hangman.stats;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Games started and finished, for one word length or, with word length 0, for all of them
+ */
+@Value
+public class GameCounts {
+    int wordLength;
+    long started;
+    long won;
+    long lost;
+    long failedAttempts; // Summed over the finished games
+    
+    public static GameCounts total(List<GameCounts> byWordLength) {
+        long started = 0;
+        long won = 0;
+        long lost = 0;
+        long failedAttempts = 0;
+        for (GameCounts counts : byWordLength) {
+            started += counts.started;
+            won += counts.won;
+            lost += counts.lost;
+            failedAttempts += counts.failedAttempts;
+        }
+        return new GameCounts(0, started, won, lost, failedAttempts);
+    }
+    
+    public long getFinished() {
+        return won + lost;
+    }
+    
+    /**
+     * Share of the finished games that were won, 0 if none finished
+     */
+    public double getWinRate() {
+        return getFinished() == 0 ? 0 : (double) won / getFinished();
+    }
+    
+    public double getAverageFailedAttempts() {
+        return getFinished() == 0 ? 0 : (double) failedAttempts / getFinished();
+    }
+}
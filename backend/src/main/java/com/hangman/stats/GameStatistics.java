@@ -0,0 +1,204 @@
+package com.hangman.stats;
+
+import com.hangman.domain.Game;
+import com.hangman.event.GameEventListener;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Running totals of games started, won and lost, and of their failed attempts, per word length.
+ * <p>
+ * Counters are {@link LongAdder}s updated from the game events, so games finishing on many threads
+ * at once do not contend on a shared cache line, and reading the statistics costs a fixed number of
+ * counters however many games were played. A read is not atomic across counters; a game finishing
+ * meanwhile may be counted in one total and not yet in another.
+ * <p>
+ * The totals are written to a small file periodically and on shutdown, through a temp file that is
+ * atomically moved over the previous one, and added back on startup before the web server accepts
+ * requests. Games finished since the last write are lost on a crash.
+ * File layout: {@code int magic, short format, long createdAt, int lengthCount}, followed by
+ * {@code long started, won, lost, failedAttempts} per word length from 0.
+ */
+@Component
+@Slf4j
+public class GameStatistics implements GameEventListener, SmartInitializingSingleton {
+    
+    static final int MAGIC = 0x48535431; // "HST1"
+    static final short FORMAT = 1;
+    static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES + Integer.BYTES;
+    
+    private static final int LENGTHS = Game.MAX_WORD_LENGTH + 1;
+    private static final int COUNTERS = 4;
+    
+    private final LongAdder[] started = adders();
+    private final LongAdder[] won = adders();
+    private final LongAdder[] lost = adders();
+    private final LongAdder[] failedAttempts = adders();
+    private final Path file;
+    private final long intervalMs;
+    private final ReentrantLock persistLock = new ReentrantLock();
+    private ScheduledExecutorService scheduler;
+    
+    /**
+     * @param file where the totals are kept across restarts, empty to keep them in memory only
+     */
+    public GameStatistics(@Value("${hangman.stats.file:data/stats/stats.bin}") Path file,
+                          @Value("${hangman.stats.persist-interval-ms:10000}") long intervalMs) {
+        this.file = file == null || file.toString().isEmpty() ? null : file;
+        this.intervalMs = intervalMs;
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+        if (file != null && intervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "game-stats");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::persistQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    @Override
+    public void gameCreated(Game game) {
+        started[lengthOf(game)].increment();
+    }
+    
+    @Override
+    public void gameFinished(Game game) {
+        int length = lengthOf(game);
+        (game.getStatus() == Game.GameStatus.WON ? won : lost)[length].increment();
+        failedAttempts[length].add(game.getFailedAttempts());
+    }
+    
+    /**
+     * @return the counts of every word length that games were started or finished with, shortest first
+     */
+    public List<GameCounts> byWordLength() {
+        List<GameCounts> counts = new ArrayList<>();
+        for (int length = 0; length < LENGTHS; length++) {
+            GameCounts lengthCounts = new GameCounts(length, started[length].sum(), won[length].sum(),
+                lost[length].sum(), failedAttempts[length].sum());
+            if (lengthCounts.getStarted() > 0 || lengthCounts.getFinished() > 0) {
+                counts.add(lengthCounts);
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * Writes the current totals to the file
+     */
+    public void persist() {
+        if (file == null) {
+            return;
+        }
+        persistLock.lock();
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + LENGTHS * COUNTERS * Long.BYTES)
+                .putInt(MAGIC)
+                .putShort(FORMAT)
+                .putLong(System.currentTimeMillis())
+                .putInt(LENGTHS);
+            for (int length = 0; length < LENGTHS; length++) {
+                buffer.putLong(started[length].sum())
+                    .putLong(won[length].sum())
+                    .putLong(lost[length].sum())
+                    .putLong(failedAttempts[length].sum());
+            }
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, buffer.array());
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write game statistics", e);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+    
+    /**
+     * Adds the totals from the file to the counters. A missing file is not an error.
+     * @return true if totals were restored
+     */
+    public boolean restore() {
+        if (file == null || !Files.exists(file)) {
+            return false;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getShort() != FORMAT) {
+                throw new IOException("Not a statistics file of format " + FORMAT);
+            }
+            buffer.getLong();
+            int lengths = buffer.getInt();
+            if (lengths < 0 || buffer.remaining() != (long) lengths * COUNTERS * Long.BYTES) {
+                throw new IOException("Truncated statistics file");
+            }
+            for (int length = 0; length < lengths; length++) {
+                int index = Math.min(length, LENGTHS - 1);
+                started[index].add(buffer.getLong());
+                won[index].add(buffer.getLong());
+                lost[index].add(buffer.getLong());
+                failedAttempts[index].add(buffer.getLong());
+            }
+            log.info("Restored game statistics from {}", file.toAbsolutePath());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable game statistics {}", file.toAbsolutePath(), e);
+            return false;
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        persistQuietly();
+    }
+    
+    private void persistQuietly() {
+        try {
+            persist();
+        } catch (RuntimeException e) {
+            log.warn("Persisting game statistics failed", e);
+        }
+    }
+    
+    private static int lengthOf(Game game) {
+        return game.getWord() == null ? 0 : Math.min(game.getWord().length(), LENGTHS - 1);
+    }
+    
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[LENGTHS];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
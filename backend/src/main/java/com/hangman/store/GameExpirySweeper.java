@@ -0,0 +1,158 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import com.hangman.metrics.GameMetrics;
+import com.hangman.service.GamePool;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes games whose last activity is older than their time to live.
+ * <p>
+ * Active games expire after the idle TTL, won and lost games after the (usually shorter) finished TTL.
+ * A sweep first evicts expired games from memory, then deletes expired games that only the backing
+ * tier still holds. Both passes work in batches; each game is only locked while its expiry is
+ * re-checked and it is removed from memory, so a game that is guessed meanwhile survives.
+ * Games waiting in the {@link GamePool} are stored but not held in memory; the second pass skips them.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "hangman.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class GameExpirySweeper {
+
+    private final GameStore gameStore;
+    private final GamePersistence persistence;
+    private final GamePool gamePool;
+    private final GameMetrics metrics;
+    private final long idleTtlMs;
+    private final long finishedTtlMs;
+    private final int batchSize;
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-expiry-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GameExpirySweeper(GameStore gameStore,
+                             GamePersistence persistence,
+                             GamePool gamePool,
+                             GameMetrics metrics,
+                             @Value("${hangman.expiry.idle-ttl-ms:3600000}") long idleTtlMs,
+                             @Value("${hangman.expiry.finished-ttl-ms:600000}") long finishedTtlMs,
+                             @Value("${hangman.expiry.sweep-interval-ms:60000}") long sweepIntervalMs,
+                             @Value("${hangman.expiry.batch-size:500}") int batchSize) {
+        this.gameStore = gameStore;
+        this.persistence = persistence;
+        this.gamePool = gamePool;
+        this.metrics = metrics;
+        this.idleTtlMs = idleTtlMs;
+        this.finishedTtlMs = finishedTtlMs;
+        this.batchSize = batchSize;
+        if (sweepIntervalMs > 0) {
+            sweeper.scheduleWithFixedDelay(this::sweepQuietly, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Deletes all games that are expired now
+     * @return the number of games deleted
+     */
+    public int sweep() {
+        long now = System.currentTimeMillis();
+        int evicted = sweepMemory(now) + sweepPersistence(now);
+        if (evicted > 0) {
+            log.debug("Expired {} games, {} still held in memory", evicted, gameStore.size());
+        }
+        return evicted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+    }
+
+    boolean isExpired(Game game, long now) {
+        long ttl = game.isGameOver() ? finishedTtlMs : idleTtlMs;
+        return game.getLastActivity() < now - ttl;
+    }
+
+    private int sweepMemory(long now) {
+        List<Game> batch = new ArrayList<>(batchSize);
+        int[] evicted = new int[1];
+        gameStore.forEach(game -> {
+            if (isExpired(game, now)) {
+                batch.add(game);
+                if (batch.size() == batchSize) {
+                    evicted[0] += evict(batch, now);
+                    batch.clear();
+                }
+            }
+        });
+        if (!batch.isEmpty()) {
+            evicted[0] += evict(batch, now);
+        }
+        return evicted[0];
+    }
+
+    private int evict(List<Game> candidates, long now) {
+        List<String> ids = new ArrayList<>(candidates.size());
+        int idle = 0;
+        int finished = 0;
+        for (Game game : candidates) {
+            if (gameStore.evict(game.getId(), current -> isExpired(current, now))) {
+                ids.add(game.getId());
+                if (game.isGameOver()) {
+                    finished++;
+                } else {
+                    idle++;
+                }
+            }
+        }
+        if (!ids.isEmpty()) {
+            persistence.deleteAll(ids);
+            metrics.gamesEvicted(idle, finished);
+        }
+        return ids.size();
+    }
+
+    private int sweepPersistence(long now) {
+        int idle = deleteStored(true, now - idleTtlMs);
+        int finished = deleteStored(false, now - finishedTtlMs);
+        metrics.gamesEvicted(idle, finished);
+        return idle + finished;
+    }
+
+    private int deleteStored(boolean active, long before) {
+        int deleted = 0;
+        while (true) {
+            List<String> ids = active ? persistence.findIdle(before, batchSize) : persistence.findFinished(before, batchSize);
+            // Games held in memory may have newer activity than their stored row; the memory pass decides for them.
+            // The pool is asked first: a game it hands out meanwhile is registered before the pool lets go of it.
+            List<String> stale = ids.stream().filter(id -> !gamePool.holds(id) && !gameStore.contains(id)).toList();
+            if (!stale.isEmpty()) {
+                persistence.deleteAll(stale);
+                deleted += stale.size();
+            }
+            if (ids.size() < batchSize || stale.size() < ids.size()) {
+                return deleted;
+            }
+        }
+    }
+
+    private void sweepQuietly() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.error("Game expiry sweep failed", e);
+        }
+    }
+}
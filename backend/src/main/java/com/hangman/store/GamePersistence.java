@@ -0,0 +1,63 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Backing tier behind the {@link GameStore}.
+ * Selected with the property {@code hangman.store.backing}.
+ */
+public interface GamePersistence {
+
+    /**
+     * Loads a game that is not held in memory
+     * @param gameId the game ID
+     * @return the game, or empty if the backing tier does not know it
+     */
+    Optional<Game> load(String gameId);
+
+    /**
+     * Persists the current state of a game
+     * @param game the game to persist
+     */
+    void store(Game game);
+
+    /**
+     * Persists several games; implementations should do so in one unit of work
+     * @param games the games to persist
+     */
+    default void storeAll(Collection<Game> games) {
+        games.forEach(this::store);
+    }
+
+    /**
+     * Finds active games whose last activity is older than the given time
+     * @param before epoch millis
+     * @param limit the maximum number of IDs to return
+     * @return the game IDs
+     */
+    default List<String> findIdle(long before, int limit) {
+        return List.of();
+    }
+
+    /**
+     * Finds won or lost games whose last activity is older than the given time
+     * @param before epoch millis
+     * @param limit the maximum number of IDs to return
+     * @return the game IDs
+     */
+    default List<String> findFinished(long before, int limit) {
+        return List.of();
+    }
+
+    /**
+     * Deletes games, ignoring IDs the backing tier does not know
+     * @param gameIds the game IDs
+     */
+    default void deleteAll(Collection<String> gameIds) {
+        // nothing persisted
+    }
+}
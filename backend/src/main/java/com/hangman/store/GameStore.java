@@ -0,0 +1,77 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Primary access path for games.
+ * Active games are served from memory; the persistence tier behind it is pluggable.
+ */
+public interface GameStore {
+
+    /**
+     * Looks up a game, loading it from the backing tier on a cache miss
+     * @param gameId the game ID
+     * @return the game, or empty if it exists neither in memory nor in the backing tier
+     */
+    Optional<Game> findById(String gameId);
+
+    /**
+     * Stores a game in memory and hands it to the backing tier
+     * @param game the game to store
+     * @return the stored game
+     */
+    Game save(Game game);
+
+    /**
+     * Stores several games in memory and hands them to the backing tier in one go
+     * @param games the games to store
+     */
+    void saveAll(Collection<Game> games);
+
+    /**
+     * Makes a game that the backing tier already holds available in memory, without writing it again
+     * @param game the already persisted game
+     * @return the game
+     */
+    Game register(Game game);
+
+    /**
+     * Runs an action while holding the lock that guards the given game
+     * @param gameId the game ID
+     * @param action the action to run
+     * @return the result of the action
+     */
+    <T> T withLock(String gameId, Supplier<T> action);
+
+    /**
+     * Removes a game from memory if it still matches the condition, checked under the game's lock.
+     * The backing tier is not touched.
+     * @param gameId the game ID
+     * @param condition the condition the game must match
+     * @return true if the game was removed
+     */
+    boolean evict(String gameId, Predicate<Game> condition);
+
+    /**
+     * @param gameId the game ID
+     * @return true if the game is held in memory
+     */
+    boolean contains(String gameId);
+
+    /**
+     * Visits every game held in memory. The iteration is weakly consistent and takes no locks.
+     * @param action the action to run per game
+     */
+    void forEach(Consumer<Game> action);
+
+    /**
+     * @return the number of games held in memory
+     */
+    int size();
+}
@@ -0,0 +1,111 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Keeps games in a concurrent map guarded by striped per-game locks.
+ * The {@link GamePersistence} is only consulted on a cache miss and on save.
+ */
+@Component
+public class InMemoryGameStore implements GameStore {
+
+    static final int DEFAULT_STRIPES = 64;
+
+    private final Map<String, Game> games = new ConcurrentHashMap<>();
+    private final StripedLocks locks;
+    private final GamePersistence persistence;
+
+    @Autowired
+    public InMemoryGameStore(GamePersistence persistence,
+                             @Value("${hangman.store.lock-stripes:" + DEFAULT_STRIPES + "}") int stripes) {
+        this.persistence = persistence;
+        this.locks = new StripedLocks(stripes);
+    }
+
+    public InMemoryGameStore(GamePersistence persistence) {
+        this(persistence, DEFAULT_STRIPES);
+    }
+
+    @Override
+    public Optional<Game> findById(String gameId) {
+        Game game = games.get(gameId);
+        if (game != null) {
+            return Optional.of(game);
+        }
+
+        // Load outside the map so a slow backing tier never blocks other keys;
+        // if two threads race, the first one to publish wins.
+        return persistence.load(gameId)
+            .map(loaded -> {
+                Game existing = games.putIfAbsent(gameId, loaded);
+                return existing != null ? existing : loaded;
+            });
+    }
+
+    @Override
+    public Game save(Game game) {
+        games.put(game.getId(), game);
+        persistence.store(game);
+        return game;
+    }
+
+    @Override
+    public void saveAll(Collection<Game> gamesToSave) {
+        for (Game game : gamesToSave) {
+            games.put(game.getId(), game);
+        }
+        persistence.storeAll(gamesToSave);
+    }
+    
+    @Override
+    public Game register(Game game) {
+        games.put(game.getId(), game);
+        return game;
+    }
+    
+    @Override
+    public <T> T withLock(String gameId, Supplier<T> action) {
+        ReentrantLock lock = locks.lockFor(gameId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean evict(String gameId, Predicate<Game> condition) {
+        return withLock(gameId, () -> {
+            Game game = games.get(gameId);
+            return game != null && condition.test(game) && games.remove(gameId, game);
+        });
+    }
+    
+    @Override
+    public boolean contains(String gameId) {
+        return games.containsKey(gameId);
+    }
+    
+    @Override
+    public void forEach(Consumer<Game> action) {
+        games.values().forEach(action);
+    }
+    
+    @Override
+    public int size() {
+        return games.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import com.hangman.repository.GameRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes every change synchronously through the JPA {@link GameRepository}
+ * ({@code hangman.store.backing=jpa}).
+ * <p>
+ * Nothing acknowledged is lost on a crash, but every guess pays for a merge of the detached game,
+ * a select and an update, while its writer holds the game's lock. The default is
+ * {@link WriteBehindGamePersistence}.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "hangman.store.backing", havingValue = "jpa")
+public class JpaGamePersistence implements GamePersistence {
+
+    private final GameRepository gameRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Game> load(String gameId) {
+        return gameRepository.findById(gameId);
+    }
+
+    @Override
+    @Transactional
+    public void store(Game game) {
+        gameRepository.save(game);
+    }
+
+    @Override
+    @Transactional
+    public void storeAll(Collection<Game> games) {
+        gameRepository.saveAll(games);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findIdle(long before, int limit) {
+        return gameRepository.findIdsWithStatus(Game.GameStatus.ACTIVE, before, Pageable.ofSize(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findFinished(long before, int limit) {
+        return gameRepository.findIdsWithoutStatus(Game.GameStatus.ACTIVE, before, Pageable.ofSize(limit));
+    }
+
+    @Override
+    @Transactional
+    public void deleteAll(Collection<String> gameIds) {
+        gameRepository.deleteAllByIdInBatch(gameIds);
+    }
+}
@@ -0,0 +1,25 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Keeps games in memory only ({@code hangman.store.backing=none}).
+ */
+@Component
+@ConditionalOnProperty(name = "hangman.store.backing", havingValue = "none")
+public class NoOpGamePersistence implements GamePersistence {
+
+    @Override
+    public Optional<Game> load(String gameId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void store(Game game) {
+        // nothing to persist
+    }
+}
@@ -0,0 +1,38 @@
+package com.hangman.store;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks shared by all games.
+ * A game always maps to the same stripe, so two guesses on one game never run at once
+ * while unrelated games rarely contend.
+ * These are {@link ReentrantLock}s rather than monitors: a guess holds its lock while the
+ * backing tier writes, and a virtual thread blocked there must not pin its carrier thread.
+ */
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes the number of locks, rounded up to the next power of two
+     */
+    public StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public ReentrantLock lockFor(String key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return locks[h & mask];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
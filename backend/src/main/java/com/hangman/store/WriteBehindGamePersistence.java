@@ -0,0 +1,220 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import com.hangman.repository.GameRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind backing tier ({@code hangman.store.backing=write-behind}, the default).
+ * <p>
+ * {@link #store(Game)} only records a row snapshot of the game; repeated changes to the same
+ * game before the next flush are coalesced into one row. Dirty rows are written to the
+ * {@code games} table in JDBC batches on a fixed interval, as soon as a batch is full, and on
+ * shutdown. The number of pending rows is bounded: a caller that finds the buffer full
+ * flushes synchronously before continuing.
+ * <p>
+ * A guess thus costs a map put instead of database round trips under the game's lock; in exchange,
+ * changes made since the last flush are lost if the process dies without shutting down.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "hangman.store.backing", havingValue = "write-behind", matchIfMissing = true)
+public class WriteBehindGamePersistence implements GamePersistence {
+    
+    static final String UPSERT_SQL =
+        "MERGE INTO games (game_id, word, failed_attempts, guessed_mask, other_guesses, revealed_mask, "
+            + "remaining_letters, game_status, max_attempts, last_activity, state_version) KEY (game_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    static final String DELETE_SQL = "DELETE FROM games WHERE game_id = ?";
+    
+    private final GameRepository gameRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int capacity;
+    private final Map<String, Object[]> dirty = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    public WriteBehindGamePersistence(GameRepository gameRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      @Value("${hangman.store.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+                                      @Value("${hangman.store.write-behind.batch-size:500}") int batchSize,
+                                      @Value("${hangman.store.write-behind.queue-capacity:10000}") int capacity) {
+        this.gameRepository = gameRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.capacity = capacity;
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Game> load(String gameId) {
+        // Games with pending rows are still held by the store, so the table is enough here
+        return gameRepository.findById(gameId);
+    }
+    
+    @Override
+    public void store(Game game) {
+        // Snapshot the row now: callers hold the game's lock, the flusher does not
+        dirty.put(game.getId(), toRow(game));
+        afterEnqueue();
+    }
+    
+    @Override
+    public void storeAll(Collection<Game> games) {
+        for (Game game : games) {
+            dirty.put(game.getId(), toRow(game));
+        }
+        afterEnqueue();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findIdle(long before, int limit) {
+        return gameRepository.findIdsWithStatus(Game.GameStatus.ACTIVE, before, Pageable.ofSize(limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findFinished(long before, int limit) {
+        return gameRepository.findIdsWithoutStatus(Game.GameStatus.ACTIVE, before, Pageable.ofSize(limit));
+    }
+    
+    @Override
+    public void deleteAll(Collection<String> gameIds) {
+        // Hold the flush lock so a flush in progress cannot write a deleted game back
+        flushLock.lock();
+        try {
+            List<Object[]> batch = new ArrayList<>(gameIds.size());
+            for (String gameId : gameIds) {
+                dirty.remove(gameId);
+                batch.add(new Object[] {gameId});
+            }
+            jdbcTemplate.batchUpdate(DELETE_SQL, batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    /**
+     * Writes all pending rows
+     * @return the number of rows written
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            int written = 0;
+            List<Object[]> batch = new ArrayList<>(Math.min(batchSize, dirty.size()));
+            Iterator<String> ids = dirty.keySet().iterator();
+            while (ids.hasNext()) {
+                Object[] row = dirty.remove(ids.next());
+                if (row != null) {
+                    batch.add(row);
+                }
+                if (batch.size() == batchSize) {
+                    written += write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                written += write(batch);
+            }
+            return written;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    public int pending() {
+        return dirty.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int written = flush();
+        log.info("Flushed {} pending games on shutdown", written);
+    }
+    
+    private void afterEnqueue() {
+        int pending = dirty.size();
+        if (pending >= capacity) {
+            // Back-pressure: the buffer is full, so the caller pays for the flush
+            flush();
+        } else if (pending >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flushQuietly();
+            });
+        }
+    }
+    
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Write-behind flush failed", e);
+        }
+    }
+    
+    private int write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            return batch.size();
+        } catch (RuntimeException e) {
+            // Put the rows back unless a newer snapshot arrived meanwhile
+            for (Object[] row : batch) {
+                dirty.putIfAbsent((String) row[0], row);
+            }
+            throw e;
+        }
+    }
+    
+    private static Object[] toRow(Game game) {
+        return new Object[] {
+            game.getId(),
+            game.getWord(),
+            game.getFailedAttempts(),
+            game.getGuessedMask(),
+            game.getOtherGuesses(),
+            game.getRevealedMask(),
+            game.getRemainingLetters(),
+            game.getStatus().name(),
+            game.getMaxAttempts(),
+            game.getLastActivity(),
+            game.getVersion()
+        };
+    }
+}
@@ -0,0 +1,110 @@
+package com.hangman.reactive;
+
+import com.hangman.domain.Game;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking access to the {@code games} table through R2DBC.
+ * Updates are conditional on the version read, so concurrent guesses on one game cannot overwrite each other.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveGameRepository {
+    
+    private static final String COLUMNS = "game_id, word, failed_attempts, guessed_mask, other_guesses, revealed_mask, "
+        + "remaining_letters, game_status, max_attempts, last_activity, state_version";
+    
+    private final DatabaseClient databaseClient;
+    
+    public Mono<Game> insert(Game game) {
+        return insertAll(List.of(game)).thenReturn(game);
+    }
+    
+    /**
+     * Inserts the games as one batch statement on a single connection
+     */
+    public Mono<Void> insertAll(List<Game> games) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement("INSERT INTO games (" + COLUMNS + ") "
+                + "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11)");
+            for (int i = 0; i < games.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Game game = games.get(i);
+                statement.bind(0, game.getId())
+                    .bind(1, game.getWord())
+                    .bind(2, game.getFailedAttempts())
+                    .bind(3, game.getGuessedMask())
+                    .bind(4, game.getOtherGuesses())
+                    .bind(5, game.getRevealedMask())
+                    .bind(6, game.getRemainingLetters())
+                    .bind(7, game.getStatus().name())
+                    .bind(8, game.getMaxAttempts())
+                    .bind(9, game.getLastActivity())
+                    .bind(10, game.getVersion());
+            }
+            return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+        }).then();
+    }
+    
+    public Mono<Game> findById(String gameId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM games WHERE game_id = :id")
+            .bind("id", gameId)
+            .map(ReactiveGameRepository::toGame)
+            .one();
+    }
+    
+    /**
+     * Stores the game's state if the stored game still has the expected version
+     * @param game the game after a guess
+     * @param expectedVersion the version the guess was applied to
+     * @return true if stored, false if another guess was stored first
+     */
+    public Mono<Boolean> update(Game game, long expectedVersion) {
+        return databaseClient.sql("UPDATE games SET failed_attempts = :failedAttempts, guessed_mask = :guessedMask, "
+                + "other_guesses = :otherGuesses, revealed_mask = :revealedMask, remaining_letters = :remainingLetters, "
+                + "game_status = :status, last_activity = :lastActivity, state_version = :version "
+                + "WHERE game_id = :id AND state_version = :expectedVersion")
+            .bind("failedAttempts", game.getFailedAttempts())
+            .bind("guessedMask", game.getGuessedMask())
+            .bind("otherGuesses", game.getOtherGuesses())
+            .bind("revealedMask", game.getRevealedMask())
+            .bind("remainingLetters", game.getRemainingLetters())
+            .bind("status", game.getStatus().name())
+            .bind("lastActivity", game.getLastActivity())
+            .bind("version", game.getVersion())
+            .bind("id", game.getId())
+            .bind("expectedVersion", expectedVersion)
+            .fetch()
+            .rowsUpdated()
+            .map(rows -> rows == 1);
+    }
+    
+    private static Game toGame(Readable row) {
+        Game game = new Game();
+        game.setId(row.get("game_id", String.class));
+        game.setWord(row.get("word", String.class));
+        game.setFailedAttempts(row.get("failed_attempts", Integer.class));
+        game.setGuessedMask(row.get("guessed_mask", Integer.class));
+        game.setOtherGuesses(row.get("other_guesses", String.class));
+        game.setRevealedMask(row.get("revealed_mask", Long.class));
+        game.setRemainingLetters(row.get("remaining_letters", Integer.class));
+        game.setStatus(Game.GameStatus.valueOf(row.get("game_status", String.class)));
+        game.setMaxAttempts(row.get("max_attempts", Integer.class));
+        game.setLastActivity(row.get("last_activity", Long.class));
+        game.setVersion(row.get("state_version", Long.class));
+        return game;
+    }
+}
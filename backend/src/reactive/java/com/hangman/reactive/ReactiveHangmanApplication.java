@@ -0,0 +1,59 @@
+package com.hangman.reactive;
+
+import com.hangman.service.WordProvider;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+/**
+ * The game API on WebFlux and Netty, storing games through R2DBC.
+ * <p>
+ * Only built with the {@code reactive} profile. It shares the classpath with the servlet application,
+ * so it scans just this package, leaves out the JDBC and JPA auto-configuration, and every bean here is
+ * conditional on a reactive web application; the servlet application's scan of {@code com.hangman}
+ * therefore skips them.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+    DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class
+})
+@ComponentScan
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@PropertySource("classpath:hangman-defaults.properties")
+public class ReactiveHangmanApplication {
+    
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveHangmanApplication.class)
+            .web(WebApplicationType.REACTIVE)
+            .run(args);
+    }
+    
+    @Bean
+    public WordProvider wordProvider(@Value("${hangman.words.file:}") String file,
+                                     @Value("${hangman.words.max-sessions:100000}") int maxSessions) {
+        return new WordProvider(file, maxSessions);
+    }
+    
+    @Bean
+    public ConnectionFactoryInitializer schemaInitializer(ConnectionFactory connectionFactory) {
+        ConnectionFactoryInitializer initializer = new ConnectionFactoryInitializer();
+        initializer.setConnectionFactory(connectionFactory);
+        initializer.setDatabasePopulator(new ResourceDatabasePopulator(new ClassPathResource("reactive-schema.sql")));
+        return initializer;
+    }
+}
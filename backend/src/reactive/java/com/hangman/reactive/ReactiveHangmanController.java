@@ -0,0 +1,112 @@
+package com.hangman.reactive;
+
+import com.hangman.codec.ResponseEncoding;
+import com.hangman.controller.HangmanController;
+import com.hangman.domain.Game;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.BulkStartGameRequest;
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import com.hangman.dto.StartGameRequest;
+import com.hangman.service.WordFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The endpoints of {@link HangmanController} on WebFlux, with the same requests, responses and status codes.
+ * Responses are JSON only; the compact encoding and the event streams are served by the servlet application.
+ * WebFlux answers a matching {@code If-None-Match} on GET with {@code 304} by itself.
+ */
+@RestController
+@RequestMapping("/api/games")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = {"http://localhost:4200", "http://localhost:3000"})
+public class ReactiveHangmanController {
+    
+    private final ReactiveHangmanService hangmanService;
+    
+    @PostMapping
+    public Mono<ResponseEntity<GameResponse>> startGame(@RequestBody(required = false) Mono<StartGameRequest> body) {
+        return body.defaultIfEmpty(new StartGameRequest())
+            .flatMap(request -> {
+                int maxAttempts = request.getMaxAttempts() > 0 ? request.getMaxAttempts() : 15;
+                WordFilter filter = new WordFilter(request.getCategory(), request.getMinLength(), request.getMaxLength());
+                return hangmanService.startNewGame(maxAttempts, request.getPlayerId(), filter);
+            })
+            .map(game -> ResponseEntity.ok(GameResponse.fromGame(game)))
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(error(e.getMessage()))));
+    }
+    
+    @PostMapping("/bulk")
+    public Mono<ResponseEntity<List<GameResponse>>> startGames(@RequestBody BulkStartGameRequest request) {
+        int maxAttempts = request.getMaxAttempts() > 0 ? request.getMaxAttempts() : 15;
+        return hangmanService.startNewGames(request.getCount(), maxAttempts)
+            .map(games -> ResponseEntity.ok(games.stream().map(GameResponse::fromGame).toList()))
+            .onErrorResume(IllegalArgumentException.class,
+                e -> Mono.just(ResponseEntity.badRequest().body(List.of(error(e.getMessage())))));
+    }
+    
+    @PostMapping("/guess")
+    public Mono<ResponseEntity<Object>> guess(@RequestBody GuessRequest request) {
+        return guess(request, GameResponse::fromGame);
+    }
+    
+    @PostMapping(path = "/guess", params = "delta=true")
+    public Mono<ResponseEntity<Object>> guessDelta(@RequestBody GuessRequest request) {
+        return guess(request, game -> GameDelta.fromGuess(game, request.getLetter().charAt(0)));
+    }
+    
+    private Mono<ResponseEntity<Object>> guess(GuessRequest request, Function<Game, Object> toBody) {
+        if (request.getId() == null || request.getId().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(error("Game ID is required")));
+        }
+        if (request.getLetter() == null || request.getLetter().isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().body(error("Letter is required")));
+        }
+        return hangmanService.guess(request.getId(), request.getLetter())
+            .map(game -> ResponseEntity.ok(toBody.apply(game)))
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity
+                .status(e.getMessage().contains("Game not found") ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST)
+                .body(error(e.getMessage()))));
+    }
+    
+    @PostMapping("/guess/batch")
+    public Mono<ResponseEntity<List<GameResponse>>> guessBatch(@RequestBody BatchGuessRequest request) {
+        return hangmanService.guessAll(request.getGuesses())
+            .map(ResponseEntity::ok)
+            .onErrorResume(IllegalArgumentException.class,
+                e -> Mono.just(ResponseEntity.badRequest().body(List.of(error(e.getMessage())))));
+    }
+    
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<GameResponse>> getGame(@PathVariable String id) {
+        return hangmanService.getGame(id)
+            .map(game -> ResponseEntity.ok()
+                .eTag(ResponseEncoding.JSON.etagOf(game.getId(), game.getVersion()))
+                .cacheControl(game.isGameOver()
+                    ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                    : CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(GameResponse.fromGame(game)))
+            .onErrorResume(IllegalArgumentException.class,
+                e -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(error(e.getMessage()))));
+    }
+    
+    private static GameResponse error(String message) {
+        return new GameResponse(null, null, 0, 0, null, message);
+    }
+}
@@ -0,0 +1,167 @@
+package com.hangman.reactive;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import com.hangman.domain.WordEntry;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import com.hangman.service.HangmanService;
+import com.hangman.service.WordFilter;
+import com.hangman.service.WordProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The game operations of {@link HangmanService} without blocking: the domain logic is the same
+ * {@link Game}, and every database call returns a publisher instead of holding a thread.
+ * <p>
+ * There is no in-memory store or writer per game here. A guess reads the game, applies the letter and
+ * stores it only if nobody stored a newer version meanwhile; otherwise it starts over on the fresh state.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveHangmanService {
+    
+    /** Attempts of a guess that keeps losing the race for its game */
+    static final int MAX_CONFLICT_RETRIES = 16;
+    
+    private final ReactiveGameRepository repository;
+    private final WordProvider wordProvider;
+    
+    /**
+     * Starts a new game for a player with a word matching the filter
+     * @return the new game; fails with IllegalArgumentException if no word matches the filter
+     */
+    public Mono<Game> startNewGame(int maxAttempts, String playerId, WordFilter filter) {
+        return Mono.fromCallable(() -> createGame(maxAttempts, wordProvider.nextEntry(playerId, filter)))
+            .flatMap(repository::insert)
+            .doOnNext(game -> log.debug("Game created with ID: {}, Max Attempts: {}", game.getId(), maxAttempts));
+    }
+    
+    /**
+     * Starts several games, inserting them in one batch
+     * @return the new games; fails with IllegalArgumentException if count is not between 1 and {@link HangmanService#MAX_BULK_SIZE}
+     */
+    public Mono<List<Game>> startNewGames(int count, int maxAttempts) {
+        if (count < 1 || count > HangmanService.MAX_BULK_SIZE) {
+            return Mono.error(new IllegalArgumentException("Count must be between 1 and " + HangmanService.MAX_BULK_SIZE));
+        }
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            games.add(createGame(maxAttempts, wordProvider.getRandomEntry()));
+        }
+        return repository.insertAll(games).thenReturn(games);
+    }
+    
+    /**
+     * Processes a guess for a specific game
+     * @return the game's state right after this guess; fails with IllegalArgumentException if the game
+     *         is not found or over, or the letter is invalid
+     */
+    public Mono<Game> guess(String gameId, String letter) {
+        return applyGuess(gameId, letter).map(Guessed::game);
+    }
+    
+    /**
+     * Processes a batch of guesses in request order
+     * @return one response per guess; failed guesses carry only id and message
+     */
+    public Mono<List<GameResponse>> guessAll(List<GuessRequest> guesses) {
+        if (guesses == null || guesses.isEmpty() || guesses.size() > HangmanService.MAX_BATCH_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                "Batch must contain between 1 and " + HangmanService.MAX_BATCH_SIZE + " guesses"));
+        }
+        return Flux.fromIterable(guesses)
+            .concatMap(guess -> {
+                if (guess == null || guess.getId() == null || guess.getId().isEmpty()) {
+                    return Mono.just(failedGuess(null, "Game ID is required"));
+                }
+                return applyGuess(guess.getId(), guess.getLetter())
+                    .map(guessed -> GameResponse.fromGameWithMessage(guessed.game(), guessed.result().getMessage()))
+                    .onErrorResume(IllegalArgumentException.class, e -> Mono.just(failedGuess(guess.getId(), e.getMessage())));
+            })
+            .collectList();
+    }
+    
+    /**
+     * @return the game; fails with IllegalArgumentException if not found
+     */
+    public Mono<Game> getGame(String gameId) {
+        return repository.findById(gameId)
+            .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Game not found with ID: " + gameId)));
+    }
+    
+    private Mono<Guessed> applyGuess(String gameId, String letter) {
+        char guessChar;
+        try {
+            guessChar = parseLetter(letter);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        // Resubscribing reads the game again, so a retry applies the letter to the state that won
+        return getGame(gameId)
+            .flatMap(game -> {
+                if (game.isGameOver()) {
+                    return Mono.error(new IllegalArgumentException("Game is already over"));
+                }
+                long expectedVersion = game.getVersion();
+                GameGuessResult result = game.guess(guessChar);
+                if (game.getVersion() == expectedVersion) {
+                    return Mono.just(new Guessed(game, result)); // Repeated letter, nothing to store
+                }
+                return repository.update(game, expectedVersion)
+                    .flatMap(stored -> stored
+                        ? Mono.just(new Guessed(game, result))
+                        : Mono.<Guessed>error(new GuessConflictException(gameId)));
+            })
+            .retryWhen(Retry.max(MAX_CONFLICT_RETRIES).filter(GuessConflictException.class::isInstance));
+    }
+    
+    /**
+     * Validates a guessed letter
+     * @throws IllegalArgumentException if the input is not a single letter
+     */
+    private static char parseLetter(String letter) {
+        if (letter == null || letter.length() != 1) {
+            throw new IllegalArgumentException("Letter must be a single character");
+        }
+        char guessChar = letter.charAt(0);
+        if (!Character.isLetter(guessChar)) {
+            throw new IllegalArgumentException("Input must be a letter");
+        }
+        return guessChar;
+    }
+    
+    private static Game createGame(int maxAttempts, WordEntry entry) {
+        Game game = new Game(entry);
+        game.setMaxAttempts(maxAttempts);
+        return game;
+    }
+    
+    private static GameResponse failedGuess(String gameId, String message) {
+        return new GameResponse(gameId, null, 0, 0, null, message);
+    }
+    
+    private record Guessed(Game game, GameGuessResult result) {
+    }
+    
+    /**
+     * Another guess stored a newer version of the game first
+     */
+    static final class GuessConflictException extends RuntimeException {
+        
+        GuessConflictException(String gameId) {
+            super("Concurrent guess on game " + gameId, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- Same table as the JPA mapping of Game
+CREATE TABLE IF NOT EXISTS games (
+    game_id           VARCHAR(255) PRIMARY KEY,
+    word              VARCHAR(255) NOT NULL,
+    failed_attempts   INT          NOT NULL,
+    guessed_mask      INT          NOT NULL,
+    other_guesses     VARCHAR(64)  NOT NULL,
+    revealed_mask     BIGINT       NOT NULL,
+    remaining_letters INT          NOT NULL,
+    game_status       VARCHAR(16)  NOT NULL,
+    max_attempts      INT          NOT NULL,
+    last_activity     BIGINT       NOT NULL,
+    state_version     BIGINT       NOT NULL
+);
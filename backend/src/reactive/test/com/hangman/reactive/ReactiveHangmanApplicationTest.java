@@ -0,0 +1,163 @@
+package com.hangman.reactive;
+
+import com.hangman.codec.ResponseEncoding;
+import com.hangman.controller.HangmanController;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import com.hangman.dto.StartGameRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+    classes = ReactiveHangmanApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.main.web-application-type=reactive")
+public class ReactiveHangmanApplicationTest {
+    
+    private static final String BASE_URL = "/api/games";
+    
+    @Autowired
+    private WebTestClient webTestClient;
+    
+    @Autowired
+    private ApplicationContext context;
+    
+    @Autowired
+    private ReactiveHangmanService hangmanService;
+    
+    @Test
+    public void testRunsWithoutServletOrJpaBeans() {
+        assertTrue(context.getBeansOfType(EntityManagerFactory.class).isEmpty());
+        assertEquals(0, context.getBeanNamesForType(HangmanController.class).length);
+    }
+    
+    @Test
+    public void testCompleteGameFlow() {
+        GameResponse started = startGame(new StartGameRequest(10, null, null, 0, 0));
+        assertEquals("ACTIVE", started.getStatus());
+        assertEquals(10, started.getMaxAttempts());
+        assertTrue(started.getMaskedWord().contains("_"));
+        
+        GameResponse guessed = webTestClient.post().uri(BASE_URL + "/guess")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new GuessRequest(started.getId(), "E"))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(GameResponse.class).returnResult().getResponseBody();
+        
+        GameResponse read = webTestClient.get().uri(BASE_URL + "/" + started.getId())
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().exists(HttpHeaders.ETAG)
+            .expectBody(GameResponse.class).returnResult().getResponseBody();
+        assertEquals(guessed, read);
+    }
+    
+    @Test
+    public void testLetterOutsideAlphabetIsRememberedAcrossGuesses() {
+        GameResponse started = startGame(new StartGameRequest(10, null, null, 0, 0));
+        
+        GameResponse repeat = null;
+        for (int i = 0; i < 2; i++) {
+            repeat = webTestClient.post().uri(BASE_URL + "/guess")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new GuessRequest(started.getId(), "É"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(GameResponse.class).returnResult().getResponseBody();
+        }
+        
+        assertEquals(1, repeat.getFailedAttempts(), "The repeat is not charged");
+    }
+    
+    @Test
+    public void testErrorsMatchServletStatusCodes() {
+        webTestClient.post().uri(BASE_URL + "/guess")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new GuessRequest("invalid-id", "A"))
+            .exchange()
+            .expectStatus().isNotFound();
+        
+        GameResponse started = startGame(new StartGameRequest());
+        webTestClient.post().uri(BASE_URL + "/guess")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new GuessRequest(started.getId(), "123"))
+            .exchange()
+            .expectStatus().isBadRequest();
+        
+        webTestClient.get().uri(BASE_URL + "/invalid-id")
+            .exchange()
+            .expectStatus().isNotFound();
+    }
+    
+    @Test
+    public void testConditionalGetReturnsNotModified() {
+        GameResponse started = startGame(new StartGameRequest());
+        String etag = webTestClient.get().uri(BASE_URL + "/" + started.getId())
+            .exchange()
+            .returnResult(GameResponse.class).getResponseHeaders().getETag();
+        assertEquals(ResponseEncoding.JSON.etagOf(started.getId(), 0), etag); // Same tag as the servlet application
+        
+        webTestClient.get().uri(BASE_URL + "/" + started.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, etag)
+            .exchange()
+            .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+    
+    @Test
+    public void testBatchGuessPlaysWholeGame() {
+        GameResponse started = startGame(new StartGameRequest());
+        List<GuessRequest> guesses = new ArrayList<>();
+        for (char letter : "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray()) {
+            guesses.add(new GuessRequest(started.getId(), String.valueOf(letter)));
+        }
+        
+        List<GameResponse> results = webTestClient.post().uri(BASE_URL + "/guess/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new BatchGuessRequest(guesses))
+            .exchange()
+            .expectStatus().isOk()
+            .expectBodyList(GameResponse.class).returnResult().getResponseBody();
+        
+        assertEquals(guesses.size(), results.size());
+        assertNotEquals("ACTIVE", hangmanService.getGame(started.getId()).block().getStatus().name());
+    }
+    
+    @Test
+    public void testConcurrentGuessesAreAllApplied() {
+        GameResponse started = startGame(new StartGameRequest(26, null, null, 0, 0));
+        String letters = "BCFGJKLMPQ"; // No vowels, so no word is completed before every guess is in
+        
+        Flux.range(0, letters.length())
+            .flatMap(i -> hangmanService.guess(started.getId(), String.valueOf(letters.charAt(i))), letters.length())
+            .blockLast();
+        
+        String guessed = hangmanService.getGame(started.getId()).block().getGuessedLetters();
+        for (char letter : letters.toCharArray()) {
+            assertTrue(guessed.indexOf(letter) >= 0, "Lost guess " + letter + " in " + guessed);
+        }
+    }
+    
+    private GameResponse startGame(StartGameRequest request) {
+        return webTestClient.post().uri(BASE_URL)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody(GameResponse.class).returnResult().getResponseBody();
+    }
+}
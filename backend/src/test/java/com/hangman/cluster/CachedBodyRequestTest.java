@@ -0,0 +1,77 @@
+package com.hangman.cluster;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedBodyRequestTest {
+    
+    @Test
+    public void testReadListenerGetsWholeBody() {
+        byte[] body = "{\"id\":\"x\",\"letter\":\"A\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream in = new GameRoutingFilter.CachedBodyRequest(new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+        
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[8];
+                int n;
+                while (in.isReady() && (n = in.read(buffer)) > 0) {
+                    read.write(buffer, 0, n);
+                }
+            }
+            
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+        
+        assertEquals(List.of("data", "done"), calls);
+        assertArrayEquals(body, read.toByteArray());
+        assertTrue(in.isFinished());
+    }
+    
+    @Test
+    public void testReadListenerErrorIsReported() {
+        ServletInputStream in = new GameRoutingFilter.CachedBodyRequest(new MockHttpServletRequest(), new byte[] {1}).getInputStream();
+        List<Throwable> errors = new ArrayList<>();
+        
+        in.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("Client went away");
+            }
+            
+            @Override
+            public void onAllDataRead() {
+                fail("Not all data was read");
+            }
+            
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+        
+        assertEquals(1, errors.size());
+        assertEquals("Client went away", errors.get(0).getMessage());
+    }
+}
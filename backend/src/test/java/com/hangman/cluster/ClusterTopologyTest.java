@@ -0,0 +1,90 @@
+package com.hangman.cluster;
+
+import com.hangman.domain.GameIds;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClusterTopologyTest {
+    
+    private static final List<String> NODES = List.of("http://a:8080", "http://b:8080", "http://c:8080");
+    
+    @Test
+    public void testGameIdsCarryTheirShard() {
+        for (int shard : new int[] {0, 1, 0xABC, GameIds.SHARDS - 1}) {
+            String id = GameIds.newId(shard);
+            
+            assertEquals(shard, GameIds.shardOf(id));
+            assertEquals(id, UUID.fromString(id).toString());
+        }
+        assertEquals(-1, GameIds.shardOf("not-a-uuid"));
+        assertEquals(-1, GameIds.shardOf(null));
+        assertThrows(IllegalArgumentException.class, () -> GameIds.newId(GameIds.SHARDS));
+    }
+    
+    @Test
+    public void testStandaloneOwnsEveryGame() {
+        ClusterTopology topology = ClusterTopology.standalone();
+        
+        assertFalse(topology.isClustered());
+        assertNull(topology.ownerOf(GameIds.newId(topology.localShard())));
+        assertNull(topology.ownerOf(GameIds.newId(7)));
+    }
+    
+    @Test
+    public void testNewGamesAreOwnedLocally() {
+        for (String self : NODES) {
+            ClusterTopology topology = new ClusterTopology(NODES, self + "/", 128);
+            
+            for (int i = 0; i < 100; i++) {
+                assertNull(topology.ownerOf(GameIds.newId(topology.localShard())));
+            }
+        }
+    }
+    
+    @Test
+    public void testAllNodesAgreeOnOwners() {
+        ClusterTopology a = new ClusterTopology(NODES, "http://a:8080", 128);
+        ClusterTopology b = new ClusterTopology(NODES, "http://b:8080", 128);
+        
+        for (int shard = 0; shard < GameIds.SHARDS; shard++) {
+            String id = GameIds.newId(shard);
+            String ownerSeenByA = a.ownerOf(id);
+            String ownerSeenByB = b.ownerOf(id);
+            
+            assertEquals(ownerSeenByA == null ? "http://a:8080" : ownerSeenByA,
+                ownerSeenByB == null ? "http://b:8080" : ownerSeenByB);
+        }
+    }
+    
+    @Test
+    public void testShardsSpreadEvenlyAndMoveLittleWhenNodeIsAdded() {
+        ConsistentHashRing three = new ConsistentHashRing(NODES, 128);
+        ConsistentHashRing four = new ConsistentHashRing(List.of("http://a:8080", "http://b:8080", "http://c:8080", "http://d:8080"), 128);
+        int[] counts = new int[3];
+        int moved = 0;
+        
+        for (int shard = 0; shard < GameIds.SHARDS; shard++) {
+            int before = three.ownerOf(ConsistentHashRing.mix(shard));
+            int after = four.ownerOf(ConsistentHashRing.mix(shard));
+            counts[before]++;
+            if (after != before) {
+                assertEquals(3, after); // Shards only move to the new node
+                moved++;
+            }
+        }
+        
+        for (int count : counts) {
+            assertTrue(count > GameIds.SHARDS / 3 * 0.75 && count < GameIds.SHARDS / 3 * 1.25, "Uneven spread: " + count);
+        }
+        assertTrue(moved < GameIds.SHARDS / 3, "Moved " + moved + " shards");
+    }
+    
+    @Test
+    public void testSelfMustBeANode() {
+        assertThrows(IllegalArgumentException.class, () -> new ClusterTopology(NODES, "http://d:8080", 128));
+    }
+}
@@ -0,0 +1,86 @@
+package com.hangman.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.domain.Game;
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompactGameCodecTest {
+    
+    @Test
+    public void testResponseRoundTrip() {
+        Game game = new Game("ÄPFEL");
+        game.guess('E');
+        GameResponse response = GameResponse.fromGame(game);
+        
+        assertEquals(response, CompactGameCodec.decode(CompactGameCodec.encode(response)));
+    }
+    
+    @Test
+    public void testResponseIsMuchSmallerThanJson() throws Exception {
+        Game game = new Game("ENTWICKLER");
+        game.guess('E');
+        GameResponse response = GameResponse.fromGame(game);
+        
+        int json = new ObjectMapper().writeValueAsBytes(response).length;
+        int compact = CompactGameCodec.encode(response).length;
+        
+        assertTrue(compact * 3 < json, "compact " + compact + " bytes, json " + json + " bytes");
+    }
+    
+    @Test
+    public void testLostGameKeepsPlainWord() {
+        Game game = new Game("A B");
+        game.setMaxAttempts(1);
+        game.guess('Z');
+        GameResponse response = GameResponse.fromGameWithMessage(game, "Game over! You lost!");
+        
+        GameResponse decoded = (GameResponse) CompactGameCodec.decode(CompactGameCodec.encode(response));
+        
+        assertEquals("A B", decoded.getMaskedWord());
+        assertEquals("LOST", decoded.getStatus());
+        assertEquals("Game over! You lost!", decoded.getMessage());
+    }
+    
+    @Test
+    public void testErrorRoundTrip() {
+        GameResponse error = new GameResponse("not-a-uuid", null, 0, 0, null, "Game not found with ID: not-a-uuid");
+        
+        assertEquals(error, CompactGameCodec.decode(CompactGameCodec.encode(error)));
+    }
+    
+    @Test
+    public void testDeltaRoundTrip() {
+        Game game = new Game("JAVA");
+        game.setMaxAttempts(2);
+        game.guess('A');
+        GameDelta hit = GameDelta.fromGuess(game, 'A');
+        game.guess('X');
+        game.guess('Y');
+        GameDelta lost = GameDelta.fromGuess(game, 'Y');
+        
+        assertEquals(hit, CompactGameCodec.decode(CompactGameCodec.encode(hit)));
+        assertEquals(lost, CompactGameCodec.decode(CompactGameCodec.encode(lost)));
+        assertEquals(7, CompactGameCodec.encode(hit).length);
+    }
+    
+    @Test
+    public void testListRoundTrip() {
+        List<GameResponse> responses = List.of(
+            GameResponse.fromGame(new Game("JAVA")),
+            new GameResponse(null, null, 0, 0, null, "Game ID is required"));
+        
+        assertEquals(responses, CompactGameCodec.decode(CompactGameCodec.encode(responses)));
+    }
+    
+    @Test
+    public void testInvalidBytes() {
+        assertThrows(IllegalArgumentException.class, () -> CompactGameCodec.decode(new byte[] {9}));
+        assertThrows(IllegalArgumentException.class, () -> CompactGameCodec.decode(new byte[] {1}));
+    }
+}
@@ -0,0 +1,106 @@
+package com.hangman.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.domain.Game;
+import com.hangman.dto.GameResponse;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.NoOpGamePersistence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameResponseCacheTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    
+    private GameResponseCache cache(long maxBytes) {
+        return new GameResponseCache(new InMemoryGameStore(new NoOpGamePersistence()), objectMapper, maxBytes, 1, registry);
+    }
+    
+    @Test
+    public void testHitReturnsSameBytesUntilVersionChanges() throws Exception {
+        GameResponseCache cache = cache(1 << 20);
+        Game game = new Game("JAVA");
+        
+        byte[] first = cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON);
+        byte[] second = cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON);
+        game.guess('A'); // No event: the version alone keeps stale bytes from being served
+        EncodedGame changed = cache.get(game, ResponseEncoding.JSON);
+        
+        assertSame(first, second);
+        assertEquals(1, changed.getVersion());
+        assertEquals(GameResponse.fromGame(game), objectMapper.readValue(changed.bytes(ResponseEncoding.JSON), GameResponse.class));
+        assertEquals(1, registry.counter("hangman.response.cache", "result", "hit").count());
+        assertEquals(2, registry.counter("hangman.response.cache", "result", "miss").count());
+    }
+    
+    @Test
+    public void testEncodingsShareOneEntry() {
+        GameResponseCache cache = cache(1 << 20);
+        Game game = new Game("JAVA");
+        
+        byte[] json = cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON);
+        EncodedGame both = cache.get(game, ResponseEncoding.COMPACT);
+        
+        assertSame(json, both.bytes(ResponseEncoding.JSON));
+        assertEquals(GameResponse.fromGame(game), CompactGameCodec.decode(both.bytes(ResponseEncoding.COMPACT)));
+        assertEquals(both.weight(), cache.size());
+    }
+    
+    @Test
+    public void testGuessInvalidatesEntry() {
+        GameResponseCache cache = cache(1 << 20);
+        Game game = new Game("JAVA");
+        cache.get(game, ResponseEncoding.JSON);
+        
+        cache.guessApplied(game, 'X', null);
+        
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    public void testLeastRecentlyUsedAreEvictedBySize() {
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            games.add(new Game("JAVA"));
+        }
+        long weight = cache(1 << 20).get(games.get(0), ResponseEncoding.JSON).weight();
+        GameResponseCache cache = cache(weight * 4);
+        
+        for (Game game : games.subList(0, 4)) {
+            cache.get(game, ResponseEncoding.JSON);
+        }
+        byte[] kept = cache.get(games.get(0), ResponseEncoding.JSON).bytes(ResponseEncoding.JSON); // Now most recently used
+        for (Game game : games.subList(4, 7)) {
+            cache.get(game, ResponseEncoding.JSON);
+        }
+        
+        assertTrue(cache.size() <= weight * 4);
+        assertSame(kept, cache.get(games.get(0), ResponseEncoding.JSON).bytes(ResponseEncoding.JSON));
+    }
+    
+    @Test
+    public void testZeroLimitDisablesCaching() {
+        GameResponseCache cache = cache(0);
+        Game game = new Game("JAVA");
+        
+        byte[] first = cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON);
+        
+        assertNotSame(first, cache.get(game, ResponseEncoding.JSON).bytes(ResponseEncoding.JSON));
+        assertEquals(0, cache.size());
+    }
+    
+    @Test
+    public void testNegotiation() {
+        assertEquals(ResponseEncoding.JSON, ResponseEncoding.negotiate(null));
+        assertEquals(ResponseEncoding.JSON, ResponseEncoding.negotiate("*/*"));
+        assertEquals(ResponseEncoding.COMPACT, ResponseEncoding.negotiate("application/vnd.hangman+binary, */*;q=0.8"));
+        assertEquals(ResponseEncoding.JSON, ResponseEncoding.negotiate("application/vnd.hangman+binary;q=0.5, application/json"));
+        assertNull(ResponseEncoding.negotiate("text/html"));
+    }
+}
@@ -1,10 +1,23 @@
 package com.hangman.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.codec.CompactGameCodec;
+import com.hangman.codec.GameResponseCache;
 import com.hangman.domain.Game;
+import com.hangman.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.BulkStartGameRequest;
+import com.hangman.dto.GameDelta;
 import com.hangman.dto.GameResponse;
 import com.hangman.dto.GuessRequest;
+import com.hangman.dto.HintResponse;
 import com.hangman.dto.StartGameRequest;
 import com.hangman.service.HangmanService;
+import com.hangman.service.LetterHint;
+import com.hangman.service.WordFilter;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.NoOpGamePersistence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +26,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -24,11 +39,23 @@ public class HangmanControllerTest {
     @Mock
     private HangmanService hangmanService;
     
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    private GameResponseCache responseCache;
+    
     private HangmanController controller;
     
     @BeforeEach
     public void setUp() {
-        controller = new HangmanController(hangmanService);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        responseCache = new GameResponseCache(
+            new InMemoryGameStore(new NoOpGamePersistence()), objectMapper, 1 << 20, 4, registry);
+        controller = new HangmanController(hangmanService, new GameMetrics(registry), responseCache);
+    }
+    
+    private GameResponse body(ResponseEntity<Object> response) throws Exception {
+        Object body = response.getBody();
+        return body instanceof byte[] bytes ? objectMapper.readValue(bytes, GameResponse.class) : (GameResponse) body;
     }
     
     // ============= START GAME TESTS =============
@@ -53,6 +80,31 @@ public class HangmanControllerTest {
         verify(hangmanService, times(1)).startNewGame(15); // Default max attempts
     }
     
+    @Test
+    public void testStartGame_WithPlayerAndFilter() {
+        Game mockGame = new Game("KATZE");
+        StartGameRequest request = new StartGameRequest(10, "player-1", "tiere", 4, 6);
+        when(hangmanService.startNewGame(10, "player-1", new WordFilter("tiere", 4, 6))).thenReturn(mockGame);
+        
+        ResponseEntity<GameResponse> response = controller.startGame(request);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(mockGame.getId(), response.getBody().getId());
+        verify(hangmanService, never()).startNewGame(anyInt());
+    }
+    
+    @Test
+    public void testStartGame_NoMatchingWords() {
+        StartGameRequest request = new StartGameRequest(10, null, "unbekannt", 0, 0);
+        when(hangmanService.startNewGame(eq(10), isNull(), any(WordFilter.class)))
+            .thenThrow(new IllegalArgumentException("No words match the filter"));
+        
+        ResponseEntity<GameResponse> response = controller.startGame(request);
+        
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("No words match the filter", response.getBody().getMessage());
+    }
+    
     @Test
     public void testStartGame_WithCustomMaxAttempts() {
         // Arrange
@@ -73,6 +125,23 @@ public class HangmanControllerTest {
         verify(hangmanService, times(1)).startNewGame(10);
     }
     
+    @Test
+    public void testStartGames_Bulk() {
+        // Arrange
+        List<Game> games = List.of(new Game("JAVA"), new Game("AUTO"));
+        when(hangmanService.startNewGames(2, 15)).thenReturn(games);
+        
+        // Act
+        ResponseEntity<List<GameResponse>> response = controller.startGames(new BulkStartGameRequest(2, 0));
+        
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().size());
+        assertEquals(games.get(1).getId(), response.getBody().get(1).getId());
+        verify(hangmanService, times(1)).startNewGames(2, 15); // Default max attempts
+    }
+    
     // ============= GUESS TESTS =============
     
     @Test
@@ -298,61 +367,264 @@ public class HangmanControllerTest {
         verify(hangmanService, times(1)).guess("some-id", "A");
     }
     
+    @Test
+    public void testGuessDelta_SendsOnlyRevealedPositions() {
+        Game mockGame = new Game("JAVA");
+        mockGame.guess('A');
+        when(hangmanService.guess(mockGame.getId(), "a")).thenReturn(mockGame);
+        
+        ResponseEntity<Object> response = controller.guessDelta(new GuessRequest(mockGame.getId(), "a"));
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        GameDelta delta = (GameDelta) response.getBody();
+        assertEquals(1, delta.getVersion());
+        assertEquals(0b1010, delta.getRevealedMask());
+        assertEquals("AA", delta.getRevealed());
+        assertNull(delta.getFailedAttempts());
+        assertNull(delta.getStatus());
+    }
+    
+    @Test
+    public void testGuessDelta_LostGameSendsWord() {
+        Game mockGame = new Game("AB");
+        mockGame.setMaxAttempts(1);
+        mockGame.guess('Z');
+        when(hangmanService.guess(mockGame.getId(), "Z")).thenReturn(mockGame);
+        
+        ResponseEntity<Object> response = controller.guessDelta(new GuessRequest(mockGame.getId(), "Z"));
+        
+        GameDelta delta = (GameDelta) response.getBody();
+        assertEquals(0, delta.getRevealedMask());
+        assertEquals(1, delta.getFailedAttempts());
+        assertEquals("LOST", delta.getStatus());
+        assertEquals("AB", delta.getWord());
+    }
+    
+    @Test
+    public void testGuessDelta_GameNotFound() {
+        when(hangmanService.guess("invalid-id", "A"))
+            .thenThrow(new IllegalArgumentException("Game not found with ID: invalid-id"));
+        
+        ResponseEntity<Object> response = controller.guessDelta(new GuessRequest("invalid-id", "A"));
+        
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(((GameResponse) response.getBody()).getMessage().contains("Game not found"));
+    }
+    
+    // ============= BATCH GUESS TESTS =============
+    
+    @Test
+    public void testGuessBatch_Success() {
+        // Arrange
+        Game mockGame = new Game("JAVA");
+        List<GuessRequest> guesses = List.of(
+            new GuessRequest(mockGame.getId(), "J"),
+            new GuessRequest(mockGame.getId(), "A"));
+        mockGame.guess('J');
+        GameResponse afterJ = GameResponse.fromGameWithMessage(mockGame, "Correct guess!");
+        mockGame.guess('A');
+        GameResponse afterA = GameResponse.fromGameWithMessage(mockGame, "Correct guess!");
+        when(hangmanService.guessAll(guesses)).thenReturn(List.of(afterJ, afterA));
+        
+        // Act
+        ResponseEntity<List<GameResponse>> response = controller.guessBatch(new BatchGuessRequest(guesses));
+        
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().size());
+        assertEquals("J _ _ _", response.getBody().get(0).getMaskedWord());
+        assertEquals("J A _ A", response.getBody().get(1).getMaskedWord());
+    }
+    
+    @Test
+    public void testGuessBatch_EmptyBatch_BadRequest() {
+        // Arrange
+        when(hangmanService.guessAll(null))
+            .thenThrow(new IllegalArgumentException("Batch must contain between 1 and 1000 guesses"));
+        
+        // Act
+        ResponseEntity<List<GameResponse>> response = controller.guessBatch(new BatchGuessRequest(null));
+        
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().get(0).getMessage().contains("Batch must contain"));
+    }
+    
     // ============= GET GAME TESTS =============
     
     @Test
-    public void testGetGame_Success() {
+    public void testGetGame_Success() throws Exception {
         // Arrange
         Game mockGame = new Game("JAVA");
         String gameId = mockGame.getId();
         when(hangmanService.getGame(gameId)).thenReturn(mockGame);
         
         // Act
-        ResponseEntity<GameResponse> response = controller.getGame(gameId);
+        ResponseEntity<Object> response = controller.getGame(gameId, null, null);
         
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(gameId, response.getBody().getId());
-        assertEquals(mockGame.getMaskedWord(), response.getBody().getMaskedWord());
-        assertEquals("ACTIVE", response.getBody().getStatus());
+        assertEquals(gameId, body(response).getId());
+        assertEquals(mockGame.getMaskedWord(), body(response).getMaskedWord());
+        assertEquals("ACTIVE", body(response).getStatus());
         verify(hangmanService, times(1)).getGame(gameId);
     }
     
     @Test
-    public void testGetGame_NotFound() {
+    public void testGetGame_NotModified() {
+        Game mockGame = new Game("JAVA");
+        mockGame.guess('A');
+        when(hangmanService.getGame(mockGame.getId())).thenReturn(mockGame);
+        String etag = controller.getGame(mockGame.getId(), null, null).getHeaders().getETag();
+        
+        ResponseEntity<Object> unchanged = controller.getGame(mockGame.getId(), etag, null);
+        mockGame.guess('X');
+        ResponseEntity<Object> changed = controller.getGame(mockGame.getId(), etag, null);
+        
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+        assertEquals(etag, unchanged.getHeaders().getETag());
+        assertEquals("no-cache", unchanged.getHeaders().getCacheControl());
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+    }
+    
+    @Test
+    public void testGetGame_EtagDependsOnEncoding() {
+        Game mockGame = new Game("JAVA");
+        when(hangmanService.getGame(mockGame.getId())).thenReturn(mockGame);
+        String compact = CompactGameCodec.MEDIA_TYPE.toString();
+        String jsonEtag = controller.getGame(mockGame.getId(), null, null).getHeaders().getETag();
+        String compactEtag = controller.getGame(mockGame.getId(), null, compact).getHeaders().getETag();
+        
+        assertEquals("\"" + mockGame.getId() + "-0\"", jsonEtag);
+        assertEquals("\"" + mockGame.getId() + "-0-c\"", compactEtag);
+        assertEquals(HttpStatus.OK, controller.getGame(mockGame.getId(), jsonEtag, compact).getStatusCode());
+        assertEquals(HttpStatus.OK, controller.getGame(mockGame.getId(), compactEtag, null).getStatusCode());
+        assertEquals(HttpStatus.NOT_MODIFIED, controller.getGame(mockGame.getId(), compactEtag, compact).getStatusCode());
+    }
+    
+    @Test
+    public void testGetGame_FinishedGameIsImmutable() {
+        Game mockGame = new Game("AB");
+        mockGame.guess('A');
+        mockGame.guess('B');
+        when(hangmanService.getGame(mockGame.getId())).thenReturn(mockGame);
+        
+        ResponseEntity<Object> response = controller.getGame(mockGame.getId(), null, null);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("max-age=31536000, public, immutable", response.getHeaders().getCacheControl());
+    }
+    
+    @Test
+    public void testGetGame_NotFound() throws Exception {
         // Arrange
         String gameId = "invalid-id";
         when(hangmanService.getGame(gameId))
             .thenThrow(new IllegalArgumentException("Game not found with ID: " + gameId));
         
         // Act
-        ResponseEntity<GameResponse> response = controller.getGame(gameId);
+        ResponseEntity<Object> response = controller.getGame(gameId, null, null);
         
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertTrue(response.getBody().getMessage().contains("Game not found"));
+        assertTrue(body(response).getMessage().contains("Game not found"));
         verify(hangmanService, times(1)).getGame(gameId);
     }
     
     @Test
-    public void testGetGame_InternalServerError() {
+    public void testGetGame_InternalServerError() throws Exception {
         // Arrange
         String gameId = "some-id";
         when(hangmanService.getGame(gameId))
             .thenThrow(new RuntimeException("Database connection failed"));
         
         // Act
-        ResponseEntity<GameResponse> response = controller.getGame(gameId);
+        ResponseEntity<Object> response = controller.getGame(gameId, null, null);
         
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals("Internal server error", response.getBody().getMessage());
+        assertEquals("Internal server error", body(response).getMessage());
         verify(hangmanService, times(1)).getGame(gameId);
     }
+    
+    @Test
+    public void testGetGame_RepeatedReadsShareEncodedBytes() throws Exception {
+        Game mockGame = new Game("JAVA");
+        when(hangmanService.getGame(mockGame.getId())).thenReturn(mockGame);
+        
+        Object first = controller.getGame(mockGame.getId(), null, null).getBody();
+        Object second = controller.getGame(mockGame.getId(), null, null).getBody();
+        mockGame.guess('A');
+        responseCache.guessApplied(mockGame, 'A', null);
+        ResponseEntity<Object> changed = controller.getGame(mockGame.getId(), null, null);
+        
+        assertSame(first, second);
+        assertNotSame(first, changed.getBody());
+        assertEquals("_ A _ A", body(changed).getMaskedWord());
+    }
+    
+    @Test
+    public void testGetGame_CompactEncoding() {
+        Game mockGame = new Game("JAVA");
+        when(hangmanService.getGame(mockGame.getId())).thenReturn(mockGame);
+        
+        ResponseEntity<Object> response = controller.getGame(mockGame.getId(), null, CompactGameCodec.MEDIA_TYPE_VALUE);
+        
+        assertEquals(CompactGameCodec.MEDIA_TYPE, response.getHeaders().getContentType());
+        assertEquals(GameResponse.fromGame(mockGame), CompactGameCodec.decode((byte[]) response.getBody()));
+    }
+    
+    @Test
+    public void testGetGame_NotAcceptable() {
+        ResponseEntity<Object> response = controller.getGame("some-id", null, "text/html");
+        
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+        verify(hangmanService, never()).getGame(any());
+    }
+    
+    // ============= HINT TESTS =============
+    
+    @Test
+    public void testHint_Success() {
+        when(hangmanService.hint("game-1")).thenReturn(new LetterHint('E', 8, 6));
+        
+        ResponseEntity<HintResponse> response = controller.hint("game-1");
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("E", response.getBody().getLetter());
+        assertEquals(8, response.getBody().getCandidates());
+        assertEquals(0.75, response.getBody().getHitProbability());
+        assertEquals("", response.getBody().getMessage());
+    }
+    
+    @Test
+    public void testHint_NotFound() {
+        when(hangmanService.hint("invalid-id"))
+            .thenThrow(new IllegalArgumentException("Game not found with ID: invalid-id"));
+        
+        ResponseEntity<HintResponse> response = controller.hint("invalid-id");
+        
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertNull(response.getBody().getLetter());
+    }
+    
+    @Test
+    public void testHint_GameOver_BadRequest() {
+        when(hangmanService.hint("game-1")).thenThrow(new IllegalArgumentException("Game is already over"));
+        
+        ResponseEntity<HintResponse> response = controller.hint("game-1");
+        
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Game is already over", response.getBody().getMessage());
+    }
 }
@@ -89,4 +89,104 @@ public class GameTest {
         assertTrue(game.isGameOver());
         assertEquals(Game.GameStatus.WON, game.getStatus());
     }
+    
+    @Test
+    public void testUmlautEquivalentRevealsBothLetters() {
+        Game game = new Game("MÜNCHEN");
+        
+        GameGuessResult result = game.guess('U');
+        
+        assertTrue(result.isCorrect());
+        assertEquals("_ Ü _ _ _ _ _", game.getMaskedWord());
+    }
+    
+    @Test
+    public void testRepeatedLettersAreRevealedTogether() {
+        Game game = new Game("JAVA");
+        
+        game.guess('A');
+        
+        assertEquals("_ A _ A", game.getMaskedWord());
+        assertEquals(2, game.getRemainingLetters());
+    }
+    
+    @Test
+    public void testDuplicateGuessDoesNotCountAsFailure() {
+        Game game = new Game("AUTO");
+        
+        game.guess('Z');
+        game.guess('Z');
+        
+        assertEquals(1, game.getFailedAttempts());
+        assertEquals("Z", game.getGuessedLetters());
+    }
+    
+    @Test
+    public void testGuessedLettersInAlphabetOrder() {
+        Game game = new Game("AUTO");
+        
+        game.guess('T');
+        game.guess('Ö');
+        game.guess('A');
+        
+        assertEquals("A,T,Ö", game.getGuessedLetters());
+    }
+    
+    @Test
+    public void testNonLettersAreVisibleFromStart() {
+        Game game = new Game("E-MAIL");
+        
+        assertEquals("_ - _ _ _ _", game.getMaskedWord());
+        assertEquals(5, game.getRemainingLetters());
+    }
+    
+    @Test
+    public void testVersionChangesOnlyWithVisibleState() {
+        Game game = new Game("JAVA");
+        assertEquals(0, game.getVersion());
+        
+        game.guess('A');
+        game.guess('X');
+        game.guess('A'); // Repeated guesses change nothing visible
+        
+        assertEquals(2, game.getVersion());
+    }
+    
+    @Test
+    public void testRevealedPositionsOfIncludesUmlautEquivalent() {
+        Game game = new Game("ÄPFEL");
+        assertEquals(0, game.revealedPositionsOf('A'));
+        
+        game.guess('a');
+        
+        assertEquals(0b1, game.revealedPositionsOf('A'));
+        assertEquals(0b1, game.revealedPositionsOf('Ä'));
+        assertEquals(0, game.revealedPositionsOf('E')); // Not guessed yet
+    }
+    
+    @Test
+    public void testLetterOutsideAlphabetCountsAsMiss() {
+        Game game = new Game("CAFE");
+        game.setMaxAttempts(2);
+        
+        GameGuessResult result = game.guess('é');
+        
+        assertFalse(result.isCorrect());
+        assertFalse(result.isRepeated());
+        assertEquals(1, game.getFailedAttempts());
+        assertEquals(0, game.getGuessedMask());
+        assertEquals(0, game.revealedPositionsOf('É'));
+        assertEquals("É", game.getGuessedLetters());
+        
+        GameGuessResult repeat = game.guess('É');
+        
+        assertTrue(repeat.isRepeated());
+        assertEquals("Letter already guessed", repeat.getMessage());
+        assertEquals(1, game.getFailedAttempts());
+        assertEquals(1, game.getVersion());
+        assertEquals(Game.GameStatus.ACTIVE, game.getStatus());
+        game.guess('C');
+        assertEquals("C,É", game.getGuessedLetters());
+        assertEquals("C,É", game.snapshot().getGuessedLetters());
+    }
 }
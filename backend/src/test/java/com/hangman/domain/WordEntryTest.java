@@ -0,0 +1,53 @@
+package com.hangman.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordEntryTest {
+    
+    @Test
+    public void testPositionsPerLetter() {
+        WordEntry entry = WordEntry.compile("java");
+        
+        assertEquals("JAVA", entry.getWord());
+        assertEquals(0b1010L, entry.positionsOf(Alphabet.indexOf('A')));
+        assertEquals(0b0001L, entry.positionsOf(Alphabet.indexOf('J')));
+        assertEquals(0L, entry.positionsOf(Alphabet.indexOf('Z')));
+        assertEquals(4, entry.getLetterCount());
+    }
+    
+    @Test
+    public void testUmlautsAreFolded() {
+        WordEntry entry = WordEntry.compile("ZÜRICH");
+        
+        assertEquals(0b10L, entry.positionsOf(Alphabet.indexOf('U')));
+        assertEquals(0b10L, entry.positionsOf(Alphabet.indexOf('Ü')));
+    }
+    
+    @Test
+    public void testNonLettersAreNotGuessable() {
+        WordEntry entry = WordEntry.compile("E-MAIL");
+        
+        assertEquals(0b111101L, entry.getLetterPositions());
+        assertEquals(5, entry.getLetterCount());
+    }
+    
+    @Test
+    public void testTooLongWordIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> WordEntry.compile("A".repeat(Game.MAX_WORD_LENGTH + 1)));
+    }
+    
+    @Test
+    public void testSharpSStaysOneLetter() {
+        // Upper-casing the whole string would turn ß into SS and push the word past the limit
+        WordEntry entry = WordEntry.compile("straße" + "N".repeat(Game.MAX_WORD_LENGTH - 6));
+        
+        assertEquals(Game.MAX_WORD_LENGTH, entry.length());
+        assertTrue(entry.getWord().startsWith("STRAßE"));
+        assertEquals(0b010000L, entry.positionsOf(Alphabet.indexOf('ß')));
+        assertEquals(0b000001L, entry.positionsOf(Alphabet.indexOf('S')));
+        assertEquals(-1L << 6, entry.positionsOf(Alphabet.indexOf('N')));
+        assertEquals(-1L, entry.getLetterPositions());
+    }
+}
@@ -0,0 +1,148 @@
+package com.hangman.integration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.HangmanServiceApplication;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Three instances in one JVM, each owning a third of the shards
+ */
+public class ClusterIntegrationTest {
+    
+    private static final int NODE_COUNT = 3;
+    
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final List<String> nodes = new ArrayList<>();
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .followRedirects(HttpClient.Redirect.NEVER)
+        .build();
+    
+    @BeforeAll
+    public static void startNodes() throws IOException {
+        for (int i = 0; i < NODE_COUNT; i++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                nodes.add("http://localhost:" + socket.getLocalPort());
+            }
+        }
+        for (String node : nodes) {
+            contexts.add(new SpringApplicationBuilder(HangmanServiceApplication.class).run(
+                "--server.port=" + node.substring(node.lastIndexOf(':') + 1),
+                "--hangman.cluster.nodes=" + String.join(",", nodes),
+                "--hangman.cluster.self=" + node,
+                "--hangman.journal.enabled=false",
+                "--hangman.snapshot.enabled=false",
+                "--hangman.pool.size=0"));
+        }
+    }
+    
+    @AfterAll
+    public static void stopNodes() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+    
+    @Test
+    public void testGameIsReachableThroughEveryNode() throws Exception {
+        GameResponse created = startGame(nodes.get(0));
+        
+        for (String node : nodes) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node + "/api/games/" + created.getId())).GET());
+            
+            assertEquals(200, response.statusCode());
+            assertEquals(created, objectMapper.readValue(response.body(), GameResponse.class));
+            assertTrue(response.headers().firstValue("ETag").isPresent());
+        }
+    }
+    
+    @Test
+    public void testGuessIsForwardedToOwner() throws Exception {
+        GameResponse created = startGame(nodes.get(1));
+        
+        GameResponse first = guess(nodes.get(2), created.getId(), "E");
+        GameResponse second = guess(nodes.get(0), created.getId(), "A");
+        GameResponse read = objectMapper.readValue(
+            send(HttpRequest.newBuilder(URI.create(nodes.get(1) + "/api/games/" + created.getId())).GET()).body(),
+            GameResponse.class);
+        
+        assertEquals(created.getId(), first.getId());
+        assertEquals(second, read);
+        assertEquals(created.getMaxAttempts(), read.getMaxAttempts());
+    }
+    
+    @Test
+    public void testBatchIsSplitByOwner() throws Exception {
+        List<GameResponse> games = new ArrayList<>();
+        for (String node : nodes) {
+            games.add(startGame(node));
+        }
+        List<GuessRequest> guesses = new ArrayList<>();
+        for (GameResponse game : games) {
+            guesses.add(new GuessRequest(game.getId(), "E"));
+        }
+        guesses.add(new GuessRequest("missing", "E"));
+        
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(nodes.get(0) + "/api/games/guess/batch"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(new BatchGuessRequest(guesses)))));
+        List<GameResponse> results = objectMapper.readValue(response.body(), new TypeReference<>() { });
+        
+        assertEquals(200, response.statusCode());
+        assertEquals(guesses.size(), results.size());
+        for (int i = 0; i < games.size(); i++) {
+            assertEquals(games.get(i).getId(), results.get(i).getId());
+            assertNotNull(results.get(i).getStatus());
+        }
+        assertNull(results.get(games.size()).getStatus());
+    }
+    
+    @Test
+    public void testEventStreamIsRedirectedToOwner() throws Exception {
+        GameResponse created = startGame(nodes.get(2));
+        
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(nodes.get(0) + "/api/games/" + created.getId() + "/events")).GET());
+        
+        assertEquals(307, response.statusCode());
+        assertEquals(nodes.get(2) + "/api/games/" + created.getId() + "/events", response.headers().firstValue("Location").orElseThrow());
+    }
+    
+    private GameResponse startGame(String node) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node + "/api/games"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"maxAttempts\": 10}")));
+        assertEquals(200, response.statusCode());
+        return objectMapper.readValue(response.body(), GameResponse.class);
+    }
+    
+    private GameResponse guess(String node, String gameId, String letter) throws Exception {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(node + "/api/games/guess"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(new GuessRequest(gameId, letter)))));
+        assertEquals(200, response.statusCode());
+        return objectMapper.readValue(response.body(), GameResponse.class);
+    }
+    
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
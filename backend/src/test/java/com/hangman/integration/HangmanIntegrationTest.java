@@ -1,22 +1,48 @@
 package com.hangman.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.codec.CompactGameCodec;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.GameDelta;
 import com.hangman.dto.GameResponse;
+import com.hangman.dto.GameUpdate;
 import com.hangman.dto.GuessRequest;
+import com.hangman.dto.HintResponse;
 import com.hangman.dto.StartGameRequest;
+import com.hangman.dto.StatsResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability
 public class HangmanIntegrationTest {
     
     @Autowired
     private TestRestTemplate restTemplate;
     
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @LocalServerPort
+    private int port;
+    
     private static final String BASE_URL = "/api/games";
     
     @Test
@@ -115,4 +141,215 @@ public class HangmanIntegrationTest {
         
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+    
+    @Test
+    public void testBatchGuessPlaysWholeGame() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        
+        ResponseEntity<GameResponse> startResponse = restTemplate.exchange(
+            BASE_URL,
+            HttpMethod.POST,
+            new HttpEntity<StartGameRequest>(null, headers),
+            GameResponse.class
+        );
+        String gameId = startResponse.getBody().getId();
+        
+        // Guess the whole alphabet in one request
+        List<GuessRequest> guesses = new ArrayList<>();
+        for (char letter : "ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray()) {
+            guesses.add(new GuessRequest(gameId, String.valueOf(letter)));
+        }
+        ResponseEntity<GameResponse[]> response = restTemplate.exchange(
+            BASE_URL + "/guess/batch",
+            HttpMethod.POST,
+            new HttpEntity<>(new BatchGuessRequest(guesses), headers),
+            GameResponse[].class
+        );
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(guesses.size(), response.getBody().length);
+        
+        ResponseEntity<GameResponse> getResponse = restTemplate.getForEntity(
+            BASE_URL + "/" + gameId,
+            GameResponse.class
+        );
+        assertNotEquals("ACTIVE", getResponse.getBody().getStatus());
+    }
+    
+    @Test
+    public void testHintSuggestsUnguessedLetter() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String gameId = restTemplate.exchange(BASE_URL, HttpMethod.POST,
+            new HttpEntity<>(new StartGameRequest(), headers), GameResponse.class).getBody().getId();
+        
+        ResponseEntity<HintResponse> hint = restTemplate.getForEntity(BASE_URL + "/" + gameId + "/hint", HintResponse.class);
+        
+        assertEquals(HttpStatus.OK, hint.getStatusCode());
+        assertTrue(hint.getBody().getCandidates() >= 1); // At least the game's own word
+        assertTrue(hint.getBody().getHitProbability() > 0);
+        
+        String letter = hint.getBody().getLetter();
+        restTemplate.exchange(BASE_URL + "/guess", HttpMethod.POST,
+            new HttpEntity<>(new GuessRequest(gameId, letter), headers), GameResponse.class);
+        ResponseEntity<HintResponse> next = restTemplate.getForEntity(BASE_URL + "/" + gameId + "/hint", HintResponse.class);
+        
+        if (next.getStatusCode() == HttpStatus.OK) {
+            assertNotEquals(letter, next.getBody().getLetter());
+        } else {
+            assertEquals(HttpStatus.BAD_REQUEST, next.getStatusCode()); // The guess won the game
+        }
+        assertEquals(HttpStatus.NOT_FOUND,
+            restTemplate.getForEntity(BASE_URL + "/invalid-id/hint", HintResponse.class).getStatusCode());
+    }
+    
+    @Test
+    public void testStatsCountStartedAndFinishedGames() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        StatsResponse before = restTemplate.getForEntity("/api/stats", StatsResponse.class).getBody();
+        
+        StartGameRequest request = new StartGameRequest();
+        request.setMaxAttempts(1);
+        GameResponse game = restTemplate.exchange(BASE_URL, HttpMethod.POST,
+            new HttpEntity<>(request, headers), GameResponse.class).getBody();
+        // No word contains all of Q, X, Y, J and V, so one of them misses and loses the game with a single attempt
+        List<GuessRequest> guesses = new ArrayList<>();
+        for (char letter : "QXYJV".toCharArray()) {
+            guesses.add(new GuessRequest(game.getId(), String.valueOf(letter)));
+        }
+        restTemplate.exchange(BASE_URL + "/guess/batch", HttpMethod.POST,
+            new HttpEntity<>(new BatchGuessRequest(guesses), headers), GameResponse[].class);
+        
+        ResponseEntity<StatsResponse> response = restTemplate.getForEntity("/api/stats", StatsResponse.class);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StatsResponse after = response.getBody();
+        assertTrue(after.getGamesStarted() > before.getGamesStarted());
+        assertTrue(after.getGamesWon() + after.getGamesLost() > before.getGamesWon() + before.getGamesLost());
+        assertTrue(after.getAverageFailedAttempts() > 0);
+        int length = (game.getMaskedWord().length() + 1) / 2; // Letters are separated by spaces
+        assertTrue(after.getByWordLength().stream()
+            .anyMatch(stats -> stats.getWordLength() == length && stats.getGamesStarted() > 0));
+    }
+    
+    @Test
+    public void testMetricsAreExposedInPrometheusFormat() {
+        restTemplate.postForEntity(BASE_URL, null, GameResponse.class);
+        
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("hangman_games_started_total"));
+        assertTrue(response.getBody().contains("hangman_operation_stage_seconds_bucket"));
+    }
+    
+    @Test
+    public void testConditionalGetReturnsNotModified() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        GameResponse game = restTemplate.exchange(
+            BASE_URL,
+            HttpMethod.POST,
+            new HttpEntity<>(new StartGameRequest(), headers),
+            GameResponse.class
+        ).getBody();
+        ResponseEntity<GameResponse> first = restTemplate.getForEntity(BASE_URL + "/" + game.getId(), GameResponse.class);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfNoneMatch(etag);
+        ResponseEntity<GameResponse> second = restTemplate.exchange(
+            BASE_URL + "/" + game.getId(),
+            HttpMethod.GET,
+            new HttpEntity<>(conditional),
+            GameResponse.class
+        );
+        
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+    }
+    
+    @Test
+    public void testCompactEncodingIsNegotiated() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        GameResponse game = restTemplate.exchange(
+            BASE_URL,
+            HttpMethod.POST,
+            new HttpEntity<>(new StartGameRequest(), headers),
+            GameResponse.class
+        ).getBody();
+        
+        HttpHeaders compact = new HttpHeaders();
+        compact.setAccept(List.of(CompactGameCodec.MEDIA_TYPE));
+        ResponseEntity<byte[]> response = restTemplate.exchange(
+            BASE_URL + "/" + game.getId(),
+            HttpMethod.GET,
+            new HttpEntity<>(compact),
+            byte[].class
+        );
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CompactGameCodec.MEDIA_TYPE, response.getHeaders().getContentType());
+        assertEquals(game, CompactGameCodec.decode(response.getBody()));
+        
+        compact.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<byte[]> delta = restTemplate.exchange(
+            BASE_URL + "/guess?delta=true",
+            HttpMethod.POST,
+            new HttpEntity<>(new GuessRequest(game.getId(), "E"), compact),
+            byte[].class
+        );
+        
+        assertEquals(HttpStatus.OK, delta.getStatusCode());
+        assertEquals(1, ((GameDelta) CompactGameCodec.decode(delta.getBody())).getVersion());
+    }
+    
+    @Test
+    public void testGuessOverWebSocketIsPushedBack() throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        GameResponse game = restTemplate.exchange(
+            BASE_URL,
+            HttpMethod.POST,
+            new HttpEntity<>(new StartGameRequest(), headers),
+            GameResponse.class
+        ).getBody();
+        BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        WebSocketSession session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                frames.add(message.getPayload());
+            }
+        }, "ws://localhost:" + port + "/ws/games/" + game.getId()).get(5, TimeUnit.SECONDS);
+        
+        try {
+            GameUpdate initial = objectMapper.readValue(frames.poll(5, TimeUnit.SECONDS), GameUpdate.class);
+            assertEquals(game.getMaskedWord(), initial.getMaskedWord());
+            
+            session.sendMessage(new TextMessage("{\"letter\": \"E\"}"));
+            GameDelta update = objectMapper.readValue(frames.poll(5, TimeUnit.SECONDS), GameDelta.class);
+            assertEquals(initial.getVersion() + 1, update.getVersion());
+            assertEquals("E", update.getLetter());
+            
+            session.sendMessage(new TextMessage("{\"letter\": \"1\"}"));
+            GameUpdate error = objectMapper.readValue(frames.poll(5, TimeUnit.SECONDS), GameUpdate.class);
+            assertEquals("Input must be a letter", error.getMessage());
+            assertNull(error.getStatus());
+            
+            // Malformed frames are answered, and the session stays open
+            for (String frame : List.of("null", "{}", "[]")) {
+                session.sendMessage(new TextMessage(frame));
+                GameUpdate rejected = objectMapper.readValue(frames.poll(5, TimeUnit.SECONDS), GameUpdate.class);
+                assertEquals(game.getId(), rejected.getId());
+                assertNotNull(rejected.getMessage(), frame);
+            }
+            assertTrue(session.isOpen());
+        } finally {
+            session.close();
+        }
+    }
 }
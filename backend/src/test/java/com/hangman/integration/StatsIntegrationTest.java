@@ -0,0 +1,92 @@
+package com.hangman.integration;
+
+import com.hangman.domain.Game;
+import com.hangman.dto.BatchGuessRequest;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
+import com.hangman.dto.StartGameRequest;
+import com.hangman.dto.StatsResponse;
+import com.hangman.event.GameEvents;
+import com.hangman.stats.GameStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statistics of a fresh context, restored from a file written before it started
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class StatsIntegrationTest {
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @DynamicPropertySource
+    static void statsFile(DynamicPropertyRegistry registry) throws IOException {
+        Path file = Files.createTempDirectory("hangman-stats").resolve("stats.bin");
+        GameStatistics earlierRun = new GameStatistics(file, 0);
+        GameEvents events = new GameEvents(List.of(earlierRun));
+        play(events, "JAVA", "JAV");  // Won without a miss
+        play(events, "JAVA", "XJAV"); // Won after one miss
+        play(events, "JAVA", "QXYZW"); // Lost after five misses
+        earlierRun.persist();
+        registry.add("hangman.stats.file", file::toString);
+        registry.add("hangman.stats.persist-interval-ms", () -> "0");
+    }
+    
+    @Test
+    public void testStatsAddNewGamesToRestoredTotals() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        StartGameRequest request = new StartGameRequest();
+        request.setMaxAttempts(1);
+        GameResponse game = restTemplate.exchange("/api/games", HttpMethod.POST,
+            new HttpEntity<>(request, headers), GameResponse.class).getBody();
+        // No word contains all of Q, X, Y, J and V, so one of them misses and loses the game with a single attempt
+        List<GuessRequest> guesses = new ArrayList<>();
+        for (char letter : "QXYJV".toCharArray()) {
+            guesses.add(new GuessRequest(game.getId(), String.valueOf(letter)));
+        }
+        restTemplate.exchange("/api/games/guess/batch", HttpMethod.POST,
+            new HttpEntity<>(new BatchGuessRequest(guesses), headers), GameResponse[].class);
+        
+        ResponseEntity<StatsResponse> response = restTemplate.getForEntity("/api/stats", StatsResponse.class);
+        
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        StatsResponse stats = response.getBody();
+        assertEquals(4, stats.getGamesStarted());
+        assertEquals(2, stats.getGamesWon());
+        assertEquals(2, stats.getGamesLost());
+        assertEquals(0.5, stats.getWinRate(), 1e-9);
+        assertEquals(1.75, stats.getAverageFailedAttempts(), 1e-9); // (0 + 1 + 5 + 1) / 4 finished games
+        int length = (game.getMaskedWord().length() + 1) / 2; // Letters are separated by spaces
+        StatsResponse.WordLengthStats four = stats.getByWordLength().stream()
+            .filter(lengthStats -> lengthStats.getWordLength() == 4)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(length == 4 ? 4 : 3, four.getGamesStarted());
+    }
+    
+    private static void play(GameEvents events, String word, String letters) {
+        Game game = new Game(word);
+        game.setMaxAttempts(5);
+        events.gameCreated(game);
+        for (char letter : letters.toCharArray()) {
+            if (!game.isGameOver()) {
+                events.guessApplied(game, letter, game.guess(letter));
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.hangman.journal;
+
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameJournalTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    public void testEventsCanBeReplayed() throws Exception {
+        GameJournal journal = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry());
+        Game game = new Game("KÖLN");
+        game.setMaxAttempts(15);
+        
+        journal.gameCreated(game);
+        for (char letter : new char[] {'K', 'Z', 'O', 'L', 'N'}) {
+            GameGuessResult result = game.guess(letter);
+            journal.guessApplied(game, letter, result);
+            if (result.isGameOver()) {
+                journal.gameFinished(game);
+            }
+        }
+        journal.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        assertEquals(7, records.size());
+        assertEquals(JournalRecord.Type.GAME_CREATED, records.get(0).getType());
+        assertEquals(game.getId(), records.get(0).getGameId());
+        assertEquals("KÖLN", records.get(0).getWord());
+        assertEquals(15, records.get(0).getMaxAttempts());
+        assertEquals('Z', records.get(2).getLetter());
+        assertFalse(records.get(2).isCorrect());
+        assertEquals(1, records.get(2).getFailedAttempts());
+        assertEquals(JournalRecord.Type.GAME_FINISHED, records.get(6).getType());
+        assertEquals("WON", records.get(6).getStatus());
+    }
+    
+    @Test
+    public void testSegmentsRollOver() throws Exception {
+        GameJournal journal = new GameJournal(directory, 512, 64, 16, new SimpleMeterRegistry());
+        for (int i = 0; i < 20; i++) {
+            journal.gameCreated(new Game("ENTWICKLER"));
+        }
+        journal.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        assertEquals(20, records.size());
+    }
+    
+    @Test
+    public void testRestartAppendsToNewestSegment() throws Exception {
+        GameJournal first = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry());
+        first.gameCreated(new Game("ERSTER"));
+        first.close();
+        GameJournal second = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry());
+        second.gameCreated(new Game("ZWEITER"));
+        second.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        assertEquals(1, JournalSegmentWriter.segments(directory).size());
+        assertEquals(List.of("ERSTER", "ZWEITER"), records.stream().map(JournalRecord::getWord).toList());
+    }
+    
+    @Test
+    public void testConcurrentJournalsDoNotShareSegment() throws Exception {
+        GameJournal earlier = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry());
+        earlier.gameCreated(new Game("FRÜHER"));
+        earlier.close();
+        GameJournal first = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry()); // Holds the tail
+        first.gameCreated(new Game("ERSTER"));
+        GameJournal second = new GameJournal(directory, 1 << 20, 64, 16, new SimpleMeterRegistry());
+        second.gameCreated(new Game("ZWEITER"));
+        first.close();
+        second.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        assertEquals(2, JournalSegmentWriter.segments(directory).size());
+        assertEquals(3, records.size());
+    }
+    
+    @Test
+    public void testForeignFilesAreIgnored() throws Exception {
+        List<String> foreign = List.of("journal-backup.bin", "journal-1-2.bin", "journal-.bin", "journal-a-1-2.bin");
+        for (String name : foreign) {
+            Files.write(directory.resolve(name), new byte[] {1, 2, 3});
+        }
+        GameJournal journal = new GameJournal(directory, 512, 64, 1, new SimpleMeterRegistry());
+        for (int i = 0; i < 10; i++) {
+            journal.gameCreated(new Game("FREMD"));
+        }
+        journal.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        assertEquals(1, JournalSegmentWriter.segments(directory).size());
+        assertFalse(records.isEmpty());
+        for (String name : foreign) {
+            assertTrue(Files.exists(directory.resolve(name)), name);
+        }
+    }
+    
+    @Test
+    public void testOldestSegmentsAreDeleted() throws Exception {
+        GameJournal journal = new GameJournal(directory, 512, 64, 3, new SimpleMeterRegistry());
+        for (int i = 0; i < 20; i++) {
+            journal.gameCreated(new Game("ENTWICKLER"));
+        }
+        journal.close();
+        
+        List<JournalRecord> records = new ArrayList<>();
+        GameJournalReader.readAll(directory, records::add);
+        
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(3, files.count());
+        }
+        assertTrue(records.size() > 0 && records.size() < 20);
+    }
+}
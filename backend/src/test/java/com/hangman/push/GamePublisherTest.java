@@ -0,0 +1,135 @@
+package com.hangman.push;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hangman.domain.Game;
+import com.hangman.domain.GameGuessResult;
+import com.hangman.dto.GameDelta;
+import com.hangman.dto.GameUpdate;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.NoOpGamePersistence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GamePublisherTest {
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private InMemoryGameStore store;
+    private GamePublisher publisher;
+    
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryGameStore(new NoOpGamePersistence());
+        publisher = new GamePublisher(store, objectMapper, 2);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        publisher.shutdown();
+    }
+    
+    @Test
+    public void testSubscribeSendsCurrentState() throws Exception {
+        Game game = store.save(new Game("AUTO"));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        
+        publisher.subscribe(game.getId(), subscriber);
+        GameUpdate initial = subscriber.next();
+        
+        assertEquals(game.getId(), initial.getId());
+        assertEquals("_ _ _ _", initial.getMaskedWord());
+        assertEquals("ACTIVE", initial.getStatus());
+        assertEquals(1, publisher.subscriberCount(game.getId()));
+    }
+    
+    @Test
+    public void testGuessesArePushedInOrderToEverySubscriber() throws Exception {
+        Game game = store.save(new Game("AUTO"));
+        RecordingSubscriber first = new RecordingSubscriber();
+        RecordingSubscriber second = new RecordingSubscriber();
+        publisher.subscribe(game.getId(), first);
+        publisher.subscribe(game.getId(), second);
+        first.next();
+        second.next();
+        
+        for (char letter : "AUX".toCharArray()) {
+            GameGuessResult result = game.guess(letter);
+            publisher.guessApplied(game, letter, result);
+        }
+        
+        for (RecordingSubscriber subscriber : new RecordingSubscriber[] {first, second}) {
+            GameDelta hit = subscriber.nextDelta();
+            assertEquals("A", hit.getLetter());
+            assertEquals(0b0001, hit.getRevealedMask());
+            assertEquals("A", hit.getRevealed());
+            assertNull(hit.getFailedAttempts());
+            assertEquals(0b0010, subscriber.nextDelta().getRevealedMask());
+            GameDelta miss = subscriber.nextDelta();
+            assertEquals("X", miss.getLetter());
+            assertEquals(0, miss.getRevealedMask());
+            assertEquals(1, miss.getFailedAttempts());
+            assertEquals(game.getVersion(), miss.getVersion());
+        }
+    }
+    
+    @Test
+    public void testClosedSubscriberIsDropped() throws Exception {
+        Game game = store.save(new Game("AUTO"));
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(game.getId(), subscriber);
+        subscriber.next();
+        subscriber.open = false;
+        
+        publisher.guessApplied(game, 'A', game.guess('A'));
+        
+        long deadline = System.currentTimeMillis() + 5000;
+        while (publisher.subscriberCount(game.getId()) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, publisher.subscriberCount(game.getId()));
+    }
+    
+    @Test
+    public void testSubscribeToUnknownGameThrows() {
+        assertThrows(IllegalArgumentException.class,
+            () -> publisher.subscribe("missing", new RecordingSubscriber()));
+        assertEquals(0, publisher.subscriberCount("missing"));
+    }
+    
+    private class RecordingSubscriber implements GameSubscriber {
+        final BlockingQueue<String> frames = new LinkedBlockingQueue<>();
+        volatile boolean open = true;
+        
+        @Override
+        public boolean send(String frame) {
+            return open && frames.add(frame);
+        }
+        
+        @Override
+        public void close() {
+            open = false;
+        }
+        
+        GameUpdate next() throws Exception {
+            return objectMapper.readValue(nextFrame(), GameUpdate.class);
+        }
+        
+        GameDelta nextDelta() throws Exception {
+            String frame = nextFrame();
+            assertFalse(frame.contains("maskedWord"), "full state pushed for a guess");
+            return objectMapper.readValue(frame, GameDelta.class);
+        }
+        
+        private String nextFrame() throws Exception {
+            String frame = frames.poll(5, TimeUnit.SECONDS);
+            assertNotNull(frame, "no frame pushed");
+            return frame;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.hangman.service;
+
+import com.hangman.domain.Game;
+import com.hangman.store.GamePersistence;
+import com.hangman.store.InMemoryGameStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameMailboxesTest {
+    
+    @Test
+    public void testConcurrentGuessesAreAllAppliedWithOwnResults() throws Exception {
+        AtomicInteger saves = new AtomicInteger();
+        GamePersistence persistence = new CountingPersistence(saves);
+        InMemoryGameStore store = new InMemoryGameStore(persistence);
+        GameMailboxes mailboxes = new GameMailboxes(store);
+        Game game = new Game("ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        game.setMaxAttempts(30);
+        store.save(game);
+        saves.set(0);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Game>> replies = new ArrayList<>();
+        for (char letter = 'A'; letter <= 'Z'; letter++) {
+            char guess = letter;
+            replies.add(executor.submit(() -> {
+                start.await();
+                return mailboxes.submit(game, current -> {
+                    current.guess(guess);
+                    return current.snapshot();
+                });
+            }));
+        }
+        start.countDown();
+        
+        Set<Long> versions = new HashSet<>();
+        for (Future<Game> reply : replies) {
+            versions.add(reply.get().getVersion());
+        }
+        executor.shutdown();
+        
+        assertEquals(26, Integer.bitCount(game.getGuessedMask()));
+        assertEquals(Game.GameStatus.WON, game.getStatus());
+        assertEquals(26, versions.size(), "Every caller sees the state right after its own guess");
+        assertTrue(saves.get() >= 1 && saves.get() <= 26);
+        assertEquals(0, mailboxes.size());
+    }
+    
+    @Test
+    public void testFailedCommandOnlyFailsItsCaller() {
+        InMemoryGameStore store = new InMemoryGameStore(new CountingPersistence(new AtomicInteger()));
+        GameMailboxes mailboxes = new GameMailboxes(store);
+        Game game = new Game("JAVA");
+        
+        assertThrows(IllegalArgumentException.class, () -> mailboxes.submit(game, current -> {
+            throw new IllegalArgumentException("Game is already over");
+        }));
+        assertEquals(1, (int) mailboxes.submit(game, current -> 1));
+    }
+    
+    @Test
+    public void testSaveTimeExcludesCommandTime() {
+        GamePersistence slowStore = new CountingPersistence(new AtomicInteger()) {
+            @Override
+            public void store(Game game) {
+                sleep(20);
+            }
+        };
+        GameMailboxes mailboxes = new GameMailboxes(new InMemoryGameStore(slowStore));
+        Game game = new Game("JAVA");
+        AtomicLong saveNanos = new AtomicLong(-1);
+        
+        mailboxes.submit(game, current -> {
+            sleep(200);
+            return current.guess('J');
+        }, saveNanos::set);
+        
+        assertTrue(saveNanos.get() >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertTrue(saveNanos.get() < TimeUnit.MILLISECONDS.toNanos(200));
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static class CountingPersistence implements GamePersistence {
+        private final AtomicInteger saves;
+        
+        CountingPersistence(AtomicInteger saves) {
+            this.saves = saves;
+        }
+        
+        @Override
+        public Optional<Game> load(String gameId) {
+            return Optional.empty();
+        }
+        
+        @Override
+        public void store(Game game) {
+            saves.incrementAndGet();
+        }
+    }
+}
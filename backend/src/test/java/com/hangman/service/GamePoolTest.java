@@ -0,0 +1,80 @@
+package com.hangman.service;
+
+import com.hangman.cluster.ClusterTopology;
+import com.hangman.domain.Game;
+import com.hangman.event.GameEvents;
+import com.hangman.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.hangman.store.GamePersistence;
+import com.hangman.store.InMemoryGameStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GamePoolTest {
+    
+    @Mock
+    private GamePersistence persistence;
+    
+    private InMemoryGameStore store;
+    private GamePool pool;
+    
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryGameStore(persistence);
+        pool = new GamePool(store, persistence, new WordProvider(), 4, 0);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+    
+    @Test
+    public void testRefillPersistsGamesBeforeHandingThemOut() {
+        pool.take(10); // Registers the bucket
+        pool.refill();
+        
+        assertEquals(4, pool.available(10));
+        verify(persistence, times(1)).storeAll(anyCollection());
+        
+        Optional<Game> game = pool.take(10);
+        assertTrue(game.isPresent());
+        assertEquals(10, game.get().getMaxAttempts());
+        assertEquals(Game.GameStatus.ACTIVE, game.get().getStatus());
+    }
+    
+    @Test
+    public void testDisabledPoolHandsOutNothing() {
+        GamePool disabled = new GamePool(store, persistence, new WordProvider(), 0);
+        
+        assertFalse(disabled.isEnabled());
+        assertTrue(disabled.take(15).isEmpty());
+        verifyNoInteractions(persistence);
+    }
+    
+    @Test
+    public void testServiceUsesPooledGameWithoutSavingAgain() {
+        pool.take(15);
+        pool.refill();
+        HangmanService service = new HangmanService(store, pool,
+            new GameMetrics(new SimpleMeterRegistry()), GameEvents.none(), new WordProvider(), new GameMailboxes(store),
+            ClusterTopology.standalone());
+        
+        Game game = service.startNewGame(15);
+        
+        verify(persistence, never()).store(any(Game.class));
+        assertSame(game, service.getGame(game.getId()));
+    }
+}
@@ -1,13 +1,23 @@
 package com.hangman.service;
 
+import com.hangman.cluster.ClusterTopology;
 import com.hangman.domain.Game;
+import com.hangman.event.GameEvents;
+import com.hangman.metrics.GameMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.hangman.dto.GameResponse;
+import com.hangman.dto.GuessRequest;
 import com.hangman.repository.GameRepository;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.JpaGamePersistence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,9 +32,17 @@ public class HangmanServiceTest {
     
     private HangmanService hangmanService;
     
+    private SimpleMeterRegistry registry;
+    
     @BeforeEach
     public void setUp() {
-        hangmanService = new HangmanService(gameRepository);
+        registry = new SimpleMeterRegistry();
+        GameMetrics metrics = new GameMetrics(registry);
+        JpaGamePersistence persistence = new JpaGamePersistence(gameRepository);
+        WordProvider words = new WordProvider();
+        InMemoryGameStore store = new InMemoryGameStore(persistence);
+        hangmanService = new HangmanService(store, new GamePool(store, persistence, words, 0), metrics,
+            GameEvents.none(), words, new GameMailboxes(store), ClusterTopology.standalone());
     }
     
     @Test
@@ -99,4 +117,89 @@ public class HangmanServiceTest {
         assertThrows(IllegalArgumentException.class, () -> 
             hangmanService.guess(game.getId(), "123"));
     }
+    
+    @Test
+    public void testGuessAllAppliesGuessesInOrderPerGame() {
+        // Arrange
+        Game cat = new Game("CAT");
+        Game auto = new Game("AUTO");
+        when(gameRepository.findById(cat.getId())).thenReturn(Optional.of(cat));
+        when(gameRepository.findById(auto.getId())).thenReturn(Optional.of(auto));
+        when(gameRepository.findById("invalid-id")).thenReturn(Optional.empty());
+        
+        // Act
+        List<GameResponse> results = hangmanService.guessAll(List.of(
+            new GuessRequest(cat.getId(), "C"),
+            new GuessRequest(auto.getId(), "Z"),
+            new GuessRequest(cat.getId(), "A"),
+            new GuessRequest("invalid-id", "A"),
+            new GuessRequest(auto.getId(), "1"),
+            new GuessRequest(cat.getId(), "T"),
+            new GuessRequest(cat.getId(), "X")
+        ));
+        
+        // Assert
+        assertEquals(7, results.size());
+        assertEquals("C _ _", results.get(0).getMaskedWord());
+        assertEquals(1, results.get(1).getFailedAttempts());
+        assertEquals("C A _", results.get(2).getMaskedWord());
+        assertTrue(results.get(3).getMessage().contains("Game not found"));
+        assertNull(results.get(3).getStatus());
+        assertEquals("Input must be a letter", results.get(4).getMessage());
+        assertEquals("WON", results.get(5).getStatus());
+        assertEquals("Game is already over", results.get(6).getMessage());
+        verify(gameRepository, times(1)).save(cat);
+        verify(gameRepository, times(1)).save(auto);
+    }
+    
+    @Test
+    public void testGuessAllRejectsEmptyBatch() {
+        assertThrows(IllegalArgumentException.class, () ->
+            hangmanService.guessAll(Collections.emptyList()));
+        verifyNoInteractions(gameRepository);
+    }
+    
+    @Test
+    public void testStartNewGamesSavesAllAtOnce() {
+        // Act
+        List<Game> games = hangmanService.startNewGames(3, 10);
+        
+        // Assert
+        assertEquals(3, games.size());
+        games.forEach(game -> assertEquals(10, game.getMaxAttempts()));
+        verify(gameRepository, times(1)).saveAll(games);
+        verify(gameRepository, never()).save(any(Game.class));
+        assertSame(games.get(0), hangmanService.getGame(games.get(0).getId()));
+    }
+    
+    @Test
+    public void testStartNewGamesRejectsInvalidCount() {
+        assertThrows(IllegalArgumentException.class, () -> hangmanService.startNewGames(0, 10));
+        assertThrows(IllegalArgumentException.class, () ->
+            hangmanService.startNewGames(HangmanService.MAX_BULK_SIZE + 1, 10));
+    }
+    
+    @Test
+    public void testGuessOutcomesAreCounted() {
+        // Arrange
+        Game game = new Game("CAT");
+        when(gameRepository.findById(game.getId())).thenReturn(Optional.of(game));
+        
+        // Act
+        hangmanService.guess(game.getId(), "C");
+        hangmanService.guess(game.getId(), "Z");
+        hangmanService.guess(game.getId(), "Z");
+        hangmanService.guess(game.getId(), "A");
+        hangmanService.guess(game.getId(), "T");
+        
+        // Assert
+        assertEquals(3, registry.get("hangman.guesses").tag("outcome", "hit").counter().count());
+        assertEquals(1, registry.get("hangman.guesses").tag("outcome", "miss").counter().count());
+        assertEquals(1, registry.get("hangman.guesses").tag("outcome", "repeat").counter().count());
+        assertEquals(1, registry.get("hangman.games.finished").tag("status", "won").counter().count());
+        assertEquals(5, registry.get("hangman.operation.stage")
+            .tags("operation", "guess", "stage", "domain").timer().count());
+        assertEquals(5, registry.get("hangman.operation.stage")
+            .tags("operation", "guess", "stage", "repository").timer().count());
+    }
 }
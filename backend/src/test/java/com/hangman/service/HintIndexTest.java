@@ -0,0 +1,168 @@
+package com.hangman.service;
+
+import com.hangman.domain.Alphabet;
+import com.hangman.domain.Game;
+import com.hangman.domain.WordEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HintIndexTest {
+    
+    private static final String LETTERS = "ABEINORSTUÄÖÜ";
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    public void testHintMatchesBruteForce() throws Exception {
+        Random random = new Random(42);
+        List<String> words = randomWords(random, 3000, 3, 8, LETTERS);
+        words.add("NEW YORK");
+        words.add("NEW-YORK");
+        words.add("STRAßE");
+        WordDictionary dictionary = dictionary(words);
+        HintIndex index = HintIndex.build(dictionary);
+        
+        for (int round = 0; round < 300; round++) {
+            Game game = new Game(words.get(random.nextInt(words.size())));
+            game.setMaxAttempts(100);
+            int guesses = random.nextInt(6);
+            for (int i = 0; i < guesses && !game.isGameOver(); i++) {
+                game.guess(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+            if (game.isGameOver()) {
+                continue;
+            }
+            
+            LetterHint hint = index.hint(game.getWord(), game.getRevealedMask(), game.getGuessedMask());
+            
+            assertEquals(bruteForce(dictionary, game), hint, "Hint for " + game.getMaskedWord() + " after " + game.getGuessedLetters());
+        }
+    }
+    
+    @Test
+    public void testLargeGroupIsEvaluatedInBlocks() throws Exception {
+        Random random = new Random(7);
+        int size = HintIndex.BLOCK_WORDS * (HintIndex.PARALLEL_BLOCKS + 1) + 123;
+        List<String> words = randomWords(random, size, 6, 6, "ABCDEFGH");
+        WordDictionary dictionary = dictionary(words);
+        HintIndex index = HintIndex.build(dictionary);
+        
+        Game game = new Game(words.get(size - 1));
+        game.setMaxAttempts(100);
+        game.guess('A');
+        game.guess('H');
+        LetterHint hint = index.hint(game.getWord(), game.getRevealedMask(), game.getGuessedMask());
+        
+        assertEquals(bruteForce(dictionary, game), hint);
+        assertTrue(hint.getCandidates() > 0);
+    }
+    
+    @Test
+    public void testFallsBackToWordsOfSameLength() {
+        HintIndex index = HintIndex.build(WordDictionary.of(List.of("HAUS", "MAUS", "BAUM")));
+        Game game = new Game("ZOOM");
+        game.guess('O');
+        
+        LetterHint hint = index.hint(game.getWord(), game.getRevealedMask(), game.getGuessedMask());
+        
+        assertEquals(0, hint.getCandidates());
+        assertEquals('A', hint.getLetter());
+        assertEquals(0, hint.getHitProbability());
+        assertEquals(LetterHint.NONE, index.hint("LANGESWORT", 0, 0));
+    }
+    
+    @Test
+    public void testSuggestsMostLikelyLetterAndFoldsUmlauts() {
+        HintIndex index = HintIndex.build(WordDictionary.of(List.of("KÖLN", "KOHL", "KALT", "KILT")));
+        Game game = new Game("KOHL");
+        game.guess('K');
+        
+        LetterHint hint = index.hint(game.getWord(), game.getRevealedMask(), game.getGuessedMask());
+        
+        assertEquals(4, hint.getCandidates());
+        assertEquals('L', hint.getLetter());
+        assertEquals(1.0, hint.getHitProbability());
+        
+        Game umlaut = new Game("KÖLN");
+        umlaut.guess('K');
+        umlaut.guess('L');
+        umlaut.guess('N');
+        hint = index.hint(umlaut.getWord(), umlaut.getRevealedMask(), umlaut.getGuessedMask());
+        
+        // Guessing O also reveals Ö, so Ö itself is never suggested
+        assertEquals(1, hint.getCandidates());
+        assertEquals('O', hint.getLetter());
+    }
+    
+    /**
+     * Candidates are the words that, played with the same guesses, show the same masked word
+     */
+    private static LetterHint bruteForce(WordDictionary dictionary, Game game) {
+        List<WordEntry> candidates = new ArrayList<>();
+        List<WordEntry> sameLength = new ArrayList<>();
+        for (int i = 0; i < dictionary.size(); i++) {
+            String word = dictionary.get(i);
+            WordEntry entry = WordEntry.compile(word);
+            if (word.length() != game.getWord().length()) {
+                continue;
+            }
+            sameLength.add(entry);
+            Game replay = new Game(entry);
+            replay.setMaxAttempts(100);
+            for (char letter : game.getGuessedLetters().replace(",", "").toCharArray()) {
+                replay.guess(letter);
+            }
+            if (replay.getMaskedWord().equals(game.getMaskedWord())) {
+                candidates.add(entry);
+            }
+        }
+        List<WordEntry> counted = candidates.isEmpty() ? sameLength : candidates;
+        
+        int best = -1;
+        int bestCount = 0;
+        for (int index = 0; index < Alphabet.SIZE; index++) {
+            boolean umlaut = index > 'Z' - 'A' && Alphabet.equivalentOf(index) >= 0;
+            if (umlaut || game.getGuessedLetters().indexOf(Alphabet.letterAt(index)) >= 0
+                    || (Alphabet.equivalentOf(index) >= 0
+                        && game.getGuessedLetters().indexOf(Alphabet.letterAt(Alphabet.equivalentOf(index))) >= 0)) {
+                continue;
+            }
+            int letter = index;
+            int count = (int) counted.stream().filter(entry -> entry.positionsOf(letter) != 0).count();
+            if (count > bestCount) {
+                best = index;
+                bestCount = count;
+            }
+        }
+        return new LetterHint(best < 0 ? null : Alphabet.letterAt(best), candidates.size(), bestCount);
+    }
+    
+    private WordDictionary dictionary(List<String> words) throws Exception {
+        Path file = directory.resolve("words.txt");
+        Files.write(file, words, StandardCharsets.UTF_8);
+        return WordDictionary.map(file, 4);
+    }
+    
+    private static List<String> randomWords(Random random, int count, int minLength, int maxLength, String letters) {
+        List<String> words = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = minLength + random.nextInt(maxLength - minLength + 1);
+            StringBuilder word = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                word.append(letters.charAt(random.nextInt(letters.length())));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+}
@@ -0,0 +1,136 @@
+package com.hangman.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordProviderTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    public void testBuiltInWords() {
+        WordProvider provider = new WordProvider();
+        
+        Set<String> words = new HashSet<>();
+        for (String line : WordProvider.DEFAULT_WORDS) {
+            words.add(line.substring(0, line.indexOf('\t')));
+        }
+        
+        assertEquals(WordProvider.DEFAULT_WORDS.size(), provider.size());
+        assertTrue(words.contains(provider.getRandomWord()));
+    }
+    
+    @Test
+    public void testWordFileSkipsUnplayableLines() throws Exception {
+        Path file = directory.resolve("words.txt");
+        Files.writeString(file, String.join("\n",
+            "# comment",
+            "köln",
+            "",
+            "café",
+            "R2D2",
+            "x".repeat(65),
+            "GRÜN\r",
+            "NEW YORK"), StandardCharsets.UTF_8);
+        
+        WordDictionary dictionary = WordDictionary.map(file, 1);
+        
+        assertEquals(3, dictionary.size());
+        assertEquals("KÖLN", dictionary.get(0));
+        assertEquals("GRÜN", dictionary.get(1));
+        assertEquals("NEW YORK", dictionary.get(2));
+    }
+    
+    @Test
+    public void testParallelIndexingFindsEveryWordOnce() throws Exception {
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            words.add(wordFor(i));
+        }
+        Path file = directory.resolve("words.txt");
+        Files.write(file, words, StandardCharsets.UTF_8);
+        
+        WordDictionary sequential = WordDictionary.map(file, 1);
+        WordDictionary parallel = WordDictionary.map(file, 7);
+        
+        assertEquals(words.size(), sequential.size());
+        assertEquals(words.size(), parallel.size());
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(words.get(i), parallel.get(i));
+        }
+    }
+    
+    @Test
+    public void testProviderDrawsFromFile() throws Exception {
+        Path file = directory.resolve("words.txt");
+        Files.write(file, List.of("EINS", "ZWEI", "DREI"), StandardCharsets.UTF_8);
+        WordProvider provider = new WordProvider(file.toString());
+        
+        Set<String> drawn = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            drawn.add(provider.getRandomWord());
+        }
+        
+        assertEquals(Set.of("EINS", "ZWEI", "DREI"), drawn);
+    }
+    
+    @Test
+    public void testFilterByCategoryAndLength() throws Exception {
+        Path file = directory.resolve("words.txt");
+        Files.write(file, List.of("KATZE\tTiere", "HUND\ttiere", "ELEFANT\ttiere", "KÖLN\tstädte", "BAUM"),
+            StandardCharsets.UTF_8);
+        WordProvider provider = new WordProvider(file.toString());
+        
+        Set<String> animals = new HashSet<>();
+        Set<String> shortWords = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            animals.add(provider.nextEntry(null, new WordFilter("tiere", 0, 0)).getWord());
+            shortWords.add(provider.nextEntry(null, new WordFilter(null, 0, 4)).getWord());
+        }
+        
+        assertEquals(Set.of("KATZE", "HUND", "ELEFANT"), animals);
+        assertEquals(Set.of("HUND", "KÖLN", "BAUM"), shortWords);
+        assertEquals("KATZE", provider.nextEntry(null, new WordFilter("TIERE", 5, 5)).getWord());
+        assertThrows(IllegalArgumentException.class, () -> provider.nextEntry(null, new WordFilter("tiere", 8, 0)));
+        assertThrows(IllegalArgumentException.class, () -> provider.nextEntry(null, new WordFilter("pflanzen", 0, 0)));
+    }
+    
+    @Test
+    public void testPlayerSeesEveryWordBeforeRepeats() {
+        WordProvider provider = new WordProvider();
+        WordFilter filter = new WordFilter("schule", 0, 0);
+        int size = (int) WordProvider.DEFAULT_WORDS.stream().filter(line -> line.endsWith("\tschule")).count();
+        
+        String previous = null;
+        for (int round = 0; round < 5; round++) {
+            Set<String> seen = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                String word = provider.nextEntry("player-1", filter).getWord();
+                assertTrue(seen.add(word), "Repeated " + word + " within a round");
+                assertNotEquals(previous, word);
+                previous = word;
+            }
+        }
+    }
+    
+    /** Distinct words of varying length, with a two-byte UTF-8 letter in each */
+    private static String wordFor(int number) {
+        StringBuilder word = new StringBuilder("Ü");
+        do {
+            word.append((char) ('A' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return word.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.hangman.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordSamplerTest {
+    
+    @Test
+    public void testPermutationCoversRangeOnce() {
+        for (int size : new int[] {1, 2, 3, 17, 1000, 65_537}) {
+            BitSet seen = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                int value = WordSampler.permute(i, size, 0x5DEECE66DL * size);
+                assertTrue(value >= 0 && value < size);
+                assertFalse(seen.get(value), "Duplicate " + value + " for size " + size);
+                seen.set(value);
+            }
+            assertEquals(size, seen.cardinality());
+        }
+    }
+    
+    @Test
+    public void testSessionsAreKeptPerPlayerAndBounded() {
+        WordSampler sampler = new WordSampler(10);
+        for (int player = 0; player < 100; player++) {
+            sampler.next("player-" + player, WordFilter.ANY, 50);
+        }
+        
+        assertTrue(sampler.sessions() <= 10);
+    }
+    
+    @Test
+    public void testActivePlayerSurvivesEviction() {
+        WordSampler sampler = new WordSampler(10);
+        BitSet seen = new BitSet();
+        for (int i = 0; i < 50; i++) {
+            seen.set(sampler.next("active", WordFilter.ANY, 50));
+            for (int other = 0; other < 3; other++) {
+                sampler.next("player-" + i + "-" + other, WordFilter.ANY, 50);
+            }
+        }
+        
+        assertEquals(50, seen.cardinality(), "The active player's round was never reset");
+    }
+    
+    @Test
+    public void testChangingTheFilterStartsANewRound() {
+        WordSampler sampler = new WordSampler(10);
+        BitSet seen = new BitSet();
+        for (int i = 0; i < 5; i++) {
+            seen.set(sampler.next("player", WordFilter.ANY, 10));
+        }
+        
+        int slot = sampler.next("player", new WordFilter("tiere", 0, 0), 3);
+        
+        assertTrue(slot < 3);
+        assertEquals(5, seen.cardinality());
+    }
+}
@@ -0,0 +1,75 @@
+package com.hangman.snapshot;
+
+import com.hangman.domain.Game;
+import com.hangman.store.InMemoryGameStore;
+import com.hangman.store.NoOpGamePersistence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameSnapshotterTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    public void testSnapshotRoundTrip() {
+        InMemoryGameStore store = new InMemoryGameStore(new NoOpGamePersistence());
+        Game active = new Game("KÖLN");
+        active.guess('O');
+        active.guess('Z');
+        active.guess('É');
+        Game won = new Game("AB");
+        won.guess('A');
+        won.guess('B');
+        store.save(active);
+        store.save(won);
+        
+        Path file = directory.resolve("games.bin");
+        assertEquals(2, new GameSnapshotter(store, file, 0).snapshot());
+        
+        InMemoryGameStore restoredStore = new InMemoryGameStore(new NoOpGamePersistence());
+        assertEquals(2, new GameSnapshotter(restoredStore, file, 0).restore());
+        
+        Game restored = restoredStore.findById(active.getId()).orElseThrow();
+        assertEquals("KÖLN", restored.getWord());
+        assertEquals(2, restored.getFailedAttempts());
+        assertEquals(active.getMaskedWord(), restored.getMaskedWord());
+        assertEquals(active.getGuessedLetters(), restored.getGuessedLetters());
+        assertTrue(restored.guess('É').isRepeated());
+        assertEquals(Game.GameStatus.ACTIVE, restored.getStatus());
+        assertTrue(restored.guess('K').isCorrect());
+        assertEquals(Game.GameStatus.WON, restoredStore.findById(won.getId()).orElseThrow().getStatus());
+    }
+    
+    @Test
+    public void testRestoreSpansMultipleChunks() {
+        InMemoryGameStore store = new InMemoryGameStore(new NoOpGamePersistence());
+        int count = 3 * GameSnapshotter.CHUNK_SIZE / GameSnapshotCodec.MAX_RECORD_SIZE;
+        for (int i = 0; i < count; i++) {
+            store.save(new Game("SNAPSHOT"));
+        }
+        
+        Path file = directory.resolve("games.bin");
+        new GameSnapshotter(store, file, 0).snapshot();
+        
+        InMemoryGameStore restoredStore = new InMemoryGameStore(new NoOpGamePersistence());
+        assertEquals(count, new GameSnapshotter(restoredStore, file, 0).restore());
+        assertEquals(count, restoredStore.size());
+    }
+    
+    @Test
+    public void testMissingOrCorruptSnapshotIsIgnored() throws Exception {
+        InMemoryGameStore store = new InMemoryGameStore(new NoOpGamePersistence());
+        Path file = directory.resolve("games.bin");
+        assertEquals(0, new GameSnapshotter(store, file, 0).restore());
+        
+        Files.write(file, new byte[] {1, 2, 3});
+        assertEquals(0, new GameSnapshotter(store, file, 0).restore());
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,111 @@
+package com.hangman.stats;
+
+import com.hangman.domain.Game;
+import com.hangman.event.GameEvents;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStatisticsTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    public void testCountsGamesPerWordLength() {
+        GameStatistics statistics = new GameStatistics(directory.resolve("stats.bin"), 0);
+        GameEvents events = new GameEvents(List.of(statistics));
+        
+        play(events, "HAUS", "HAUS");         // Won without a miss
+        play(events, "BAUM", "XBAUM");        // Won after one miss
+        play(events, "KATZE", "QXYJV");       // Lost after five misses
+        events.gameCreated(new Game("HUND")); // Still active
+        
+        List<GameCounts> byWordLength = statistics.byWordLength();
+        
+        assertEquals(2, byWordLength.size());
+        GameCounts four = byWordLength.get(0);
+        assertEquals(4, four.getWordLength());
+        assertEquals(3, four.getStarted());
+        assertEquals(2, four.getWon());
+        assertEquals(0, four.getLost());
+        assertEquals(1.0, four.getWinRate());
+        assertEquals(0.5, four.getAverageFailedAttempts());
+        GameCounts total = GameCounts.total(byWordLength);
+        assertEquals(4, total.getStarted());
+        assertEquals(3, total.getFinished());
+        assertEquals(2.0 / 3, total.getWinRate(), 1e-9);
+        assertEquals(2.0, total.getAverageFailedAttempts(), 1e-9);
+    }
+    
+    @Test
+    public void testTotalsSurviveRestart() {
+        Path file = directory.resolve("stats.bin");
+        GameStatistics statistics = new GameStatistics(file, 0);
+        GameEvents events = new GameEvents(List.of(statistics));
+        play(events, "HAUS", "HAUS");
+        play(events, "KATZE", "QXYJV");
+        statistics.shutdown();
+        assertTrue(Files.exists(file));
+        
+        GameStatistics restarted = new GameStatistics(file, 0);
+        assertTrue(restarted.restore());
+        play(new GameEvents(List.of(restarted)), "MAUS", "MAUS");
+        
+        GameCounts total = GameCounts.total(restarted.byWordLength());
+        assertEquals(3, total.getStarted());
+        assertEquals(2, total.getWon());
+        assertEquals(1, total.getLost());
+    }
+    
+    @Test
+    public void testIgnoresUnreadableFile() throws Exception {
+        Path file = directory.resolve("stats.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        GameStatistics statistics = new GameStatistics(file, 0);
+        
+        assertFalse(statistics.restore());
+        assertTrue(statistics.byWordLength().isEmpty());
+    }
+    
+    @Test
+    public void testConcurrentFinishesAreAllCounted() throws Exception {
+        GameStatistics statistics = new GameStatistics(null, 0);
+        GameEvents events = new GameEvents(List.of(statistics));
+        int threads = 4;
+        int gamesPerThread = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    play(events, "HAUS", "HAUS");
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        
+        GameCounts total = GameCounts.total(statistics.byWordLength());
+        assertEquals(threads * gamesPerThread, total.getStarted());
+        assertEquals(threads * gamesPerThread, total.getWon());
+    }
+    
+    private static void play(GameEvents events, String word, String letters) {
+        Game game = new Game(word);
+        game.setMaxAttempts(5);
+        events.gameCreated(game);
+        for (char letter : letters.toCharArray()) {
+            if (!game.isGameOver()) {
+                events.guessApplied(game, letter, game.guess(letter));
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import com.hangman.metrics.GameMetrics;
+import com.hangman.service.GamePool;
+import com.hangman.service.WordProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GameExpirySweeperTest {
+    
+    private static final long IDLE_TTL = 60_000;
+    private static final long FINISHED_TTL = 10_000;
+    
+    @Mock
+    private GamePersistence persistence;
+    
+    private InMemoryGameStore store;
+    private GamePool pool;
+    private SimpleMeterRegistry registry;
+    private GameExpirySweeper sweeper;
+    
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryGameStore(persistence);
+        pool = new GamePool(store, persistence, new WordProvider(), 2, 0);
+        registry = new SimpleMeterRegistry();
+        sweeper = new GameExpirySweeper(store, persistence, pool, new GameMetrics(registry), IDLE_TTL, FINISHED_TTL, 0, 2);
+    }
+    
+    @AfterEach
+    public void tearDown() {
+        pool.shutdown();
+    }
+    
+    @Test
+    public void testExpiredGamesAreEvictedAndDeleted() {
+        long now = System.currentTimeMillis();
+        Game fresh = game("FRESH", now);
+        Game idle = game("IDLE", now - IDLE_TTL - 1);
+        Game recentlyFinished = game("AB", now - FINISHED_TTL + 5_000);
+        recentlyFinished.setStatus(Game.GameStatus.WON);
+        Game finished = game("ABC", now - FINISHED_TTL - 1);
+        finished.setStatus(Game.GameStatus.LOST);
+        for (Game game : List.of(fresh, idle, recentlyFinished, finished)) {
+            store.register(game);
+        }
+        
+        assertEquals(2, sweeper.sweep());
+        
+        assertTrue(store.contains(fresh.getId()));
+        assertTrue(store.contains(recentlyFinished.getId()));
+        assertFalse(store.contains(idle.getId()));
+        assertFalse(store.contains(finished.getId()));
+        verify(persistence).deleteAll(argThat(ids -> Set.copyOf(ids).equals(Set.of(idle.getId(), finished.getId()))));
+        assertEquals(1.0, registry.get("hangman.games.evicted").tag("reason", "idle").counter().count());
+        assertEquals(1.0, registry.get("hangman.games.evicted").tag("reason", "finished").counter().count());
+    }
+    
+    @Test
+    public void testGuessKeepsGameAlive() {
+        Game game = game("ALIVE", System.currentTimeMillis() - IDLE_TTL - 1);
+        store.register(game);
+        game.guess('A');
+        
+        assertEquals(0, sweeper.sweep());
+        assertTrue(store.contains(game.getId()));
+    }
+    
+    @Test
+    public void testStoredGamesAreDeletedInBatchesSkippingHeldGames() {
+        Game held = game("HELD", System.currentTimeMillis());
+        store.register(held);
+        when(persistence.findIdle(anyLong(), eq(2)))
+            .thenReturn(List.of("a", "b"))
+            .thenReturn(List.of("c", held.getId()));
+        when(persistence.findFinished(anyLong(), eq(2))).thenReturn(List.of("d"));
+        
+        assertEquals(4, sweeper.sweep());
+        
+        verify(persistence).deleteAll(List.of("a", "b"));
+        verify(persistence).deleteAll(List.of("c"));
+        verify(persistence).deleteAll(List.of("d"));
+        verify(persistence, times(2)).findIdle(anyLong(), eq(2));
+        assertEquals(3.0, registry.get("hangman.games.evicted").tag("reason", "idle").counter().count());
+    }
+    
+    @Test
+    public void testPooledGamesOlderThanTtlAreNotDeleted() {
+        List<Game> pooled = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> pooled.addAll(invocation.<Collection<Game>>getArgument(0)))
+            .when(persistence).storeAll(anyCollection());
+        pool.take(10); // Registers the bucket
+        pool.refill();
+        assertEquals(2, pooled.size());
+        long longAgo = System.currentTimeMillis() - IDLE_TTL - 1;
+        pooled.forEach(game -> game.setLastActivity(longAgo));
+        List<String> ids = pooled.stream().map(Game::getId).toList();
+        when(persistence.findIdle(anyLong(), eq(2))).thenReturn(ids).thenReturn(List.of());
+        
+        assertEquals(0, sweeper.sweep());
+        
+        verify(persistence, never()).deleteAll(anyCollection());
+        assertEquals(0.0, registry.get("hangman.games.evicted").tag("reason", "idle").counter().count());
+        Game handedOut = pool.take(10).orElseThrow();
+        assertTrue(store.contains(handedOut.getId()));
+        assertFalse(pool.holds(handedOut.getId()));
+        assertEquals(0, sweeper.sweep());
+        assertTrue(store.contains(handedOut.getId()));
+    }
+    
+    private static Game game(String word, long lastActivity) {
+        Game game = new Game(word);
+        game.setLastActivity(lastActivity);
+        return game;
+    }
+}
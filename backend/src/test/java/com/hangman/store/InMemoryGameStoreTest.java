@@ -0,0 +1,90 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryGameStoreTest {
+    
+    @Mock
+    private GamePersistence persistence;
+    
+    private InMemoryGameStore store;
+    
+    @BeforeEach
+    public void setUp() {
+        store = new InMemoryGameStore(persistence);
+    }
+    
+    @Test
+    public void testSavedGameIsServedFromMemory() {
+        Game game = new Game("AUTO");
+        
+        store.save(game);
+        Optional<Game> found = store.findById(game.getId());
+        
+        assertTrue(found.isPresent());
+        assertSame(game, found.get());
+        verify(persistence, times(1)).store(game);
+        verify(persistence, never()).load(any());
+    }
+    
+    @Test
+    public void testCacheMissLoadsFromBackingTierOnce() {
+        Game game = new Game("AUTO");
+        when(persistence.load(game.getId())).thenReturn(Optional.of(game));
+        
+        assertSame(game, store.findById(game.getId()).orElseThrow());
+        assertSame(game, store.findById(game.getId()).orElseThrow());
+        
+        verify(persistence, times(1)).load(game.getId());
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    public void testUnknownGameIsEmpty() {
+        when(persistence.load("invalid-id")).thenReturn(Optional.empty());
+        
+        assertTrue(store.findById("invalid-id").isEmpty());
+        assertEquals(0, store.size());
+    }
+    
+    @Test
+    public void testConcurrentGuessesUnderLockAreNotLost() throws Exception {
+        Game game = new Game("AUTO");
+        store.save(game);
+        char[] wrongLetters = {'Z', 'X', 'Q', 'W', 'B'};
+        ExecutorService executor = Executors.newFixedThreadPool(wrongLetters.length);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        
+        for (char letter : wrongLetters) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return store.withLock(game.getId(), () -> game.guess(letter));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        
+        assertEquals(wrongLetters.length, game.getFailedAttempts());
+    }
+}
@@ -0,0 +1,76 @@
+package com.hangman.store;
+
+import com.hangman.domain.Game;
+import com.hangman.repository.GameRepository;
+import com.hangman.service.HangmanService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+    "hangman.store.backing=write-behind",
+    "hangman.store.write-behind.flush-interval-ms=3600000",
+    "hangman.pool.size=0"
+})
+public class WriteBehindGamePersistenceTest {
+    
+    @Autowired
+    private HangmanService hangmanService;
+    
+    @Autowired
+    private WriteBehindGamePersistence persistence;
+    
+    @Autowired
+    private GameRepository gameRepository;
+    
+    @Test
+    public void testGuessesAreCoalescedUntilFlush() {
+        Game game = hangmanService.startNewGame(15);
+        hangmanService.guess(game.getId(), "Q");
+        hangmanService.guess(game.getId(), "X");
+        
+        assertFalse(gameRepository.existsById(game.getId()));
+        assertEquals(1, persistence.pending());
+        
+        assertEquals(1, persistence.flush());
+        
+        Game stored = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(game.getWord(), stored.getWord());
+        assertEquals(game.getFailedAttempts(), stored.getFailedAttempts());
+        assertEquals(game.getGuessedMask(), stored.getGuessedMask());
+        assertEquals(0, persistence.pending());
+    }
+    
+    @Test
+    public void testFlushUpdatesExistingRow() {
+        Game game = hangmanService.startNewGame(15);
+        persistence.flush();
+        
+        hangmanService.guess(game.getId(), "Q");
+        persistence.flush();
+        
+        Game stored = gameRepository.findById(game.getId()).orElseThrow();
+        assertEquals(game.getGuessedMask(), stored.getGuessedMask());
+    }
+    
+    @Test
+    public void testDeleteDropsPendingAndStoredRows() {
+        Game flushed = hangmanService.startNewGame(15);
+        persistence.flush();
+        Game pending = hangmanService.startNewGame(15);
+        
+        List<String> idle = persistence.findIdle(System.currentTimeMillis() + 1, 100);
+        assertTrue(idle.contains(flushed.getId()));
+        assertFalse(idle.contains(pending.getId()));
+        
+        persistence.deleteAll(List.of(flushed.getId(), pending.getId()));
+        
+        assertEquals(0, persistence.pending());
+        assertFalse(gameRepository.existsById(flushed.getId()));
+        assertEquals(0, persistence.flush());
+    }
+}